@@ -29,7 +29,7 @@ import java.lang.annotation.Target;
  * {@link org.quartz.JobExecutionContext} parameter.</p>
  *
  * <pre>
- *  &#64;QuartzJob(cronExpression = "0 0/10 * * * ?", parameters = {"Prod", "v1"})
+ *  &#64;QuartzJob(cronExpression = "0 0/10 * * * ?", parameters = {"Prod", "v1"}, jitterSeconds = 30)
  *  public void myScheduledTask() { ... }
  * </pre>
  *
@@ -39,6 +39,11 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface QuartzEngineJob {
 	String DEFAULT_GROUP = "undefined";
+	/**
+	 * <p>The {@link #jitterSeconds()} default - any negative value uses the
+	 * engine wide jitter window.</p>
+	 */
+	int USE_ENGINE_DEFAULT = -1;
 
 	/**
 	 * <p>The Quartz Cron expression determining when the job fires. Quartz cron
@@ -65,4 +70,21 @@ public @interface QuartzEngineJob {
 	 * @return an array of strings defaults to an empty array of strings
 	 */
 	String[] parameters() default {};
+
+	/**
+	 * <p>The size of the window, in seconds, that this job's fire times are
+	 * spread across.  Each fire time is shifted by a stable offset within the
+	 * window, derived from a hash of the job's {@code JobKey}, so that jobs
+	 * sharing the same cron expression do not all fire at the same instant.
+	 * The same offset is applied to the {@link QuartzEngineJobRunNow} trigger.</p>
+	 *
+	 * <p>The window should be no larger than the period of the cron expression,
+	 * as larger offsets wrap around into the next period.  A value of 0
+	 * disables the jitter for this job, and any negative value (not only
+	 * {@link #USE_ENGINE_DEFAULT}) uses the engine wide default.</p>
+	 *
+	 * @return the jitter window in seconds, defaults to the engine wide default
+	 * 		(see {@link QuartzEngine#setDefaultJitterSeconds(int)})
+	 */
+	int jitterSeconds() default USE_ENGINE_DEFAULT;
 }
\ No newline at end of file
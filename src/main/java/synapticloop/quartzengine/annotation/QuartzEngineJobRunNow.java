@@ -27,7 +27,10 @@ import java.lang.annotation.Target;
  *
  * <p>When the {@code QuartzEngine} discovers this annotation on a method, it will
  * schedule the job normally according to its Cron expression, but will also
- * issue an immediate manual trigger call.</p>
+ * issue an immediate manual trigger call.  If the job has a jitter window (see
+ * {@link QuartzEngineJob#jitterSeconds()}) the manual trigger is delayed by the
+ * job's offset within that window, so that a scan of many run now jobs does not
+ * fire them all at once.</p>
  *
  * <p>Note: This must be used in conjunction with {@literal @}QuartzJob to have any effect.</p>
  * <pre>
@@ -30,9 +30,13 @@ import synapticloop.quartzengine.job.MethodInvokerJob;
 import synapticloop.quartzengine.listener.GlobalJobListener;
 import synapticloop.quartzengine.metric.JobMetric;
 import synapticloop.quartzengine.metric.JobMetricStatistics;
+import synapticloop.quartzengine.trigger.JitteredCronScheduleBuilder;
+import synapticloop.quartzengine.trigger.JobKeyJitter;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,16 +49,18 @@ import java.util.List;
  * <p>The {@code QuartzEngine} serves as a centralized manager for the Quartz Scheduler,
  * providing an automated, annotation-driven approach to job registration.</p>
  *
- * <p>This engine implements a Singleton pattern to ensure that only one instance of the
- * scheduler and its associated thread pool exist within the JVM. It utilizes the
- * {@code Reflections} library to scan specified packages for methods decorated with
- * {@link QuartzEngineJob}.</p>
+ * <p>A default engine is available through {@link #getInstance(String...)}, which
+ * uses the default Quartz scheduler (configured through {@code quartz.properties}).
+ * Additional, fully isolated engines - each with their own scheduler name, thread
+ * pool, job store, metrics and set of packages - can be created with the
+ * {@link QuartzEngineBuilder}. It utilizes the {@code Reflections} library to scan
+ * specified packages for methods decorated with {@link QuartzEngineJob}.</p>
  *
  * <p>Key Features:</p>
  *
  * <ul>
- * <li><b>Singleton Job Instances:</b> Ensures each job class is instantiated only once,
- * allowing jobs to share state or resources.</li>
+ * <li><b>Singleton Job Instances:</b> Ensures each job class is instantiated only once
+ * per engine, allowing jobs to share state or resources.</li>
  * <li><b>Package Caching:</b> Tracks scanned packages to prevent redundant classpath
  * crawling and duplicate job registration.</li>
  * <li><b>Dynamic Loading:</b> Supports adding new job packages at runtime via
@@ -67,10 +73,30 @@ import java.util.List;
 public class QuartzEngine {
 	private static final Logger LOGGER = LoggerFactory.getLogger(QuartzEngine.class);
 
+	public static final String TARGET_CLASS = "targetClass";
+	public static final String TARGET_METHOD_NAME = "targetMethodName";
+	public static final String TARGET_PARAMETER_TYPES = "targetParameterTypes";
+	/**
+	 * @deprecated the job instance is no longer stored in the {@code JobDataMap}
+	 * and this key is no longer populated - the map holds the class name under
+	 * {@link #TARGET_CLASS}, use {@link #getJobInstance(String)} to retrieve the
+	 * instance.
+	 */
+	@Deprecated
 	public static final String TARGET_OBJECT = "targetObject";
+	/**
+	 * @deprecated the {@link Method} is no longer stored in the {@code JobDataMap}
+	 * and this key is no longer populated - the map holds the method name under
+	 * {@link #TARGET_METHOD_NAME}, use {@link #getJobMethod(Object, String, String[])}
+	 * to resolve the method.
+	 */
+	@Deprecated
 	public static final String TARGET_METHOD = "targetMethod";
 	public static final String PARAMS_ARRAY = "paramsArray";
 	public static final String TRIGGER = "Trigger";
+	public static final String RUN_NOW_TRIGGER = "RunNowTrigger";
+	public static final String PROPERTY_DEFAULT_JITTER_SECONDS = "quartzengine.jitter.seconds";
+	public static final String ENGINE_CONTEXT_KEY = "quartzEngine";
 	public static final String STATUS_UNKNOWN = "UNKNOWN";
 
 	// Inside QuartzEngine class:
@@ -80,18 +106,53 @@ public class QuartzEngine {
 	private static QuartzEngine instance;
 	private final Scheduler scheduler;
 
-	// Global cache for Job class instances
-	private static final Map<Class<?>, Object> instanceCache = new ConcurrentHashMap<>();
+	// The jitter window for jobs that do not define their own
+	private volatile int defaultJitterSeconds;
+
+	// Per engine cache for Job class instances, keyed on the fully qualified class name
+	private final Map<String, Object> instanceCache = new ConcurrentHashMap<>();
+
+	// Cache of the resolved job methods, keyed on the job that invokes them
+	private final Map<JobKey, Method> methodCache = new ConcurrentHashMap<>();
 
 	// Cache to track scanned packages to prevent redundant work
-	private static final Set<String> scannedPackages = ConcurrentHashMap.newKeySet();
+	private final Set<String> scannedPackages = ConcurrentHashMap.newKeySet();
 
 	private QuartzEngine() throws SchedulerException {
-		this.scheduler = StdSchedulerFactory.getDefaultScheduler();
+		this(StdSchedulerFactory.getDefaultScheduler(), Integer.getInteger(PROPERTY_DEFAULT_JITTER_SECONDS, 0));
+	}
 
-		this.scheduler.getListenerManager().addJobListener(new GlobalJobListener());
+	/**
+	 * <p>Create an engine around an (unstarted) scheduler, the engine registers
+	 * itself in the scheduler context so that executing jobs resolve their
+	 * instances and record their metrics against this engine.</p>
+	 *
+	 * @param scheduler the scheduler that this engine exclusively manages
+	 * @param defaultJitterSeconds the default jitter window in seconds
+	 *
+	 * @throws SchedulerException if the scheduler is already managed by another
+	 * 		engine, or could not be started
+	 */
+	QuartzEngine(Scheduler scheduler, int defaultJitterSeconds) throws SchedulerException {
+		this.scheduler = scheduler;
+		this.defaultJitterSeconds = Math.max(0, defaultJitterSeconds);
+
+		SchedulerContext schedulerContext = this.scheduler.getContext();
+		synchronized (schedulerContext) {
+			if (schedulerContext.containsKey(ENGINE_CONTEXT_KEY)) {
+				throw new SchedulerException("The scheduler '" + scheduler.getSchedulerName() + "' is already managed by another QuartzEngine.");
+			}
+			schedulerContext.put(ENGINE_CONTEXT_KEY, this);
+		}
+
+		try {
+			this.scheduler.getListenerManager().addJobListener(new GlobalJobListener());
 
-		this.scheduler.start();
+			this.scheduler.start();
+		} catch (SchedulerException e) {
+			schedulerContext.remove(ENGINE_CONTEXT_KEY);
+			throw e;
+		}
 	}
 
 	/**
@@ -104,7 +165,7 @@ public class QuartzEngine {
 	 *
 	 * @param packagesToScan A variadic array of package names (e.g., "com.app.jobs")
 	 * to scan for {@literal @}QuartzJob annotations.
-	 * @return The singleton {@code QuartzEngine} instance.
+	 * @return The default {@code QuartzEngine} instance.
 	 * @throws org.quartz.SchedulerException If the Quartz Scheduler fails to initialize
 	 * or start.
 	 */
@@ -120,6 +181,23 @@ public class QuartzEngine {
 		return instance;
 	}
 
+	/**
+	 * <p>Retrieves the engine that is running a job, jobs should use this rather
+	 * than {@link #getInstance(String...)}, which always returns (and if need be
+	 * starts) the default engine.</p>
+	 *
+	 * @param context the execution context passed to the job
+	 * @return the {@code QuartzEngine} that owns the scheduler running the job
+	 * @throws SchedulerException if the scheduler is not managed by a {@code QuartzEngine}
+	 */
+	public static QuartzEngine fromContext(JobExecutionContext context) throws SchedulerException {
+		QuartzEngine engine = (QuartzEngine) context.getScheduler().getContext().get(ENGINE_CONTEXT_KEY);
+		if (engine == null) {
+			throw new SchedulerException("No QuartzEngine was registered in the SchedulerContext!");
+		}
+		return engine;
+	}
+
 	/**
 	 * Public method to add new packages. Skips any package that has already been scanned.
 	 */
@@ -153,11 +231,11 @@ public class QuartzEngine {
 			try {
 				Class<?> clazz = method.getDeclaringClass();
 
-				Object jobInstance = instanceCache.computeIfAbsent(clazz, k -> {
+				Object jobInstance = instanceCache.computeIfAbsent(clazz.getName(), k -> {
 					try {
-						return k.getDeclaredConstructor().newInstance();
+						return clazz.getDeclaredConstructor().newInstance();
 					} catch (Exception e) {
-						LOGGER.error("Failed to instantiate {}. Ensure it has a public no-arg constructor.", k.getName());
+						LOGGER.error("Failed to instantiate {}. Ensure it has a public no-arg constructor.", k);
 						return null;
 					}
 				});
@@ -187,21 +265,38 @@ public class QuartzEngine {
 				.withIdentity(jobKey)
 				.build();
 
-		// Explicitly putting the String[] into the Map
-		job.getJobDataMap().put(TARGET_OBJECT, jobInstance);
-		job.getJobDataMap().put(TARGET_METHOD, method);
+		// Only serialisable values go into the map so that JDBC backed job stores
+		// can persist it - the instance and method are resolved at execution time
+		job.getJobDataMap().put(TARGET_CLASS, jobInstance.getClass().getName());
+		job.getJobDataMap().put(TARGET_METHOD_NAME, method.getName());
+		job.getJobDataMap().put(TARGET_PARAMETER_TYPES, Arrays.stream(method.getParameterTypes()).map(Class::getName).toArray(String[]::new));
 		job.getJobDataMap().put(PARAMS_ARRAY, config.parameters()); // String[] stored here
 
+		// any negative window falls back to the engine default, not only USE_ENGINE_DEFAULT
+		int jitterSeconds = (config.jitterSeconds() < 0 ? defaultJitterSeconds : config.jitterSeconds());
+		long offsetMillis = JobKeyJitter.offsetMillis(jobKey, jitterSeconds);
+
 		Trigger trigger = TriggerBuilder.newTrigger()
 				.withIdentity(jobName + TRIGGER, config.group())
-				.withSchedule(CronScheduleBuilder.cronSchedule(config.cronExpression()))
+				.withSchedule(offsetMillis == 0L ?
+						CronScheduleBuilder.cronSchedule(config.cronExpression()) :
+						JitteredCronScheduleBuilder.jitteredCronSchedule(config.cronExpression(), offsetMillis))
 				.build();
 
 		scheduler.scheduleJob(job, trigger);
 
 		if (method.isAnnotationPresent(QuartzEngineJobRunNow.class)) {
-			LOGGER.info("QuartzJobRunNow detected. Triggering: {}", method.getName());
-			scheduler.triggerJob(jobKey);
+			if (offsetMillis == 0L) {
+				LOGGER.info("QuartzJobRunNow detected. Triggering: {}", method.getName());
+				scheduler.triggerJob(jobKey);
+			} else {
+				LOGGER.info("QuartzJobRunNow detected. Triggering: {} in {}ms", method.getName(), offsetMillis);
+				scheduler.scheduleJob(TriggerBuilder.newTrigger()
+						.withIdentity(jobName + RUN_NOW_TRIGGER, config.group())
+						.forJob(jobKey)
+						.startAt(new Date(System.currentTimeMillis() + offsetMillis))
+						.build());
+			}
 		}
 	}
 
@@ -214,7 +309,7 @@ public class QuartzEngine {
 	 * <ul>
 	 *  <li>Iterates through all known Job Groups.</li>
 	 *  <li>Queries each Group for its associated {@link JobKey}s.</li>
-	 *  <li>Retrieves the primary {@link Trigger} for each job to determine its next fire time.</li>
+	 *  <li>Retrieves the primary (cron) {@link Trigger} for each job to determine its next fire time.</li>
 	 *  <li>Checks the current {@link org.quartz.Trigger.TriggerState} to identify if a job is
 	 * NORMAL, PAUSED, BLOCKED, or in an ERROR state.</li>
 	 * </ul>
@@ -235,9 +330,13 @@ public class QuartzEngine {
 			for (String groupName : scheduler.getJobGroupNames()) {
 				for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(groupName))) {
 
-					// 1. Get Trigger info
-					List<? extends Trigger> triggers = scheduler.getTriggersOfJob(jobKey);
-					Trigger firstTrigger = triggers.isEmpty() ? null : triggers.get(0);
+					// 1. Get Trigger info - use the cron trigger, as a jittered run now
+					// job also has a one shot trigger until it has fired
+					Trigger firstTrigger = scheduler.getTrigger(new TriggerKey(jobKey.getName() + TRIGGER, jobKey.getGroup()));
+					if (firstTrigger == null) {
+						List<? extends Trigger> triggers = scheduler.getTriggersOfJob(jobKey);
+						firstTrigger = triggers.isEmpty() ? null : triggers.get(0);
+					}
 
 					// 2. Determine Next Run and Status
 					java.util.Date nextRun = (firstTrigger != null) ? firstTrigger.getNextFireTime() : null;
@@ -265,11 +364,135 @@ public class QuartzEngine {
 	}
 
 
+	/**
+	 * <p>Retrieves the cached singleton instance of a job class that was
+	 * registered during a package scan.</p>
+	 *
+	 * @param className the fully qualified class name of the job class
+	 * @return the job instance, or {@code null} if the class was never registered
+	 */
+	public Object getJobInstance(String className) {
+		return instanceCache.get(className);
+	}
+
+	/**
+	 * <p>Returns the annotated job method for a registered job.  The method is
+	 * resolved on the first fire and cached on the job key, so later fires are a
+	 * single map lookup.</p>
+	 *
+	 * @param jobKey the key of the job that is firing
+	 * @param targetObject the job instance
+	 * @param methodName the name of the annotated method
+	 * @param parameterTypes the fully qualified class names of the method's
+	 * 		parameter types, null is treated as no parameters
+	 * @return the method, or {@code null} if no matching annotated method exists
+	 */
+	public Method getJobMethod(JobKey jobKey, Object targetObject, String methodName, String[] parameterTypes) {
+		Method method = methodCache.get(jobKey);
+		// the class check catches a job key that was re-registered against another class
+		if (null == method || method.getDeclaringClass() != targetObject.getClass()) {
+			method = getJobMethod(targetObject, methodName, parameterTypes);
+			if (null != method) {
+				methodCache.put(jobKey, method);
+			}
+		}
+		return method;
+	}
+
+	/**
+	 * <p>Resolves the annotated job method on the target object from its name and
+	 * parameter types, so that overloaded methods resolve to exactly the method
+	 * that was registered.  This uses reflection on every call, jobs that fire
+	 * repeatedly should use {@link #getJobMethod(JobKey, Object, String, String[])}.</p>
+	 *
+	 * @param targetObject the job instance
+	 * @param methodName the name of the annotated method
+	 * @param parameterTypes the fully qualified class names of the method's
+	 * 		parameter types, null is treated as no parameters
+	 * @return the method, or {@code null} if no matching annotated method exists
+	 */
+	public Method getJobMethod(Object targetObject, String methodName, String[] parameterTypes) {
+		Class<?> clazz = targetObject.getClass();
+		String[] types = (null == parameterTypes ? new String[0] : parameterTypes);
+		try {
+			Class<?>[] parameterClasses = new Class<?>[types.length];
+			for (int i = 0; i < types.length; i++) {
+				parameterClasses[i] = Class.forName(types[i], false, clazz.getClassLoader());
+			}
+
+			Method method = clazz.getDeclaredMethod(methodName, parameterClasses);
+			return (method.isAnnotationPresent(QuartzEngineJob.class) ? method : null);
+		} catch (ClassNotFoundException | NoSuchMethodException e) {
+			LOGGER.error("Could not resolve job method {}#{}({})", clazz.getName(), methodName, String.join(",", types));
+			return null;
+		}
+	}
+
+	/**
+	 * <p>Set the engine wide jitter window, in seconds, for jobs that do not set
+	 * {@link QuartzEngineJob#jitterSeconds()}.  This applies to jobs registered
+	 * after the call, the initial value is read from the
+	 * {@value #PROPERTY_DEFAULT_JITTER_SECONDS} system property (default 0 - no
+	 * jitter).</p>
+	 *
+	 * @param defaultJitterSeconds the default jitter window in seconds
+	 */
+	public void setDefaultJitterSeconds(int defaultJitterSeconds) {
+		this.defaultJitterSeconds = Math.max(0, defaultJitterSeconds);
+	}
+
+	public int getDefaultJitterSeconds() {
+		return defaultJitterSeconds;
+	}
+
 	public JobMetricStatistics getStats() {
 		return stats;
 	}
+
+	Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	public String getSchedulerName() throws SchedulerException {
+		return scheduler.getSchedulerName();
+	}
+
+	/**
+	 * <p>Stop the scheduler from firing triggers until {@link #start()} is
+	 * called.  Jobs can still be registered while the engine is in standby, any
+	 * fire times that pass in the meantime are handled by the triggers' misfire
+	 * instructions when the engine is started again.</p>
+	 *
+	 * @throws SchedulerException if the scheduler could not be put into standby
+	 */
+	public void standby() throws SchedulerException {
+		scheduler.standby();
+	}
+
+	/**
+	 * <p>Start (or restart after {@link #standby()}) firing triggers.</p>
+	 *
+	 * @throws SchedulerException if the scheduler could not be started
+	 */
+	public void start() throws SchedulerException {
+		scheduler.start();
+	}
+
+	/**
+	 * <p>Shut down the scheduler, waiting for any executing jobs to complete.  If
+	 * this is the default engine, the next call to {@link #getInstance(String...)}
+	 * will create a new default engine.</p>
+	 *
+	 * @throws SchedulerException if the scheduler could not be shut down
+	 */
 	public void shutdown() throws SchedulerException {
 		scheduler.shutdown(true);
+
+		synchronized (QuartzEngine.class) {
+			if (instance == this) {
+				instance = null;
+			}
+		}
 	}
 
 
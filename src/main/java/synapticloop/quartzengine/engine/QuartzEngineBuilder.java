@@ -0,0 +1,207 @@
+package synapticloop.quartzengine.engine;
+
+/* Copyright (c) 2026 synapticloop.
+ * All rights reserved.
+ *
+ * This source code and any derived binaries are covered by the terms and
+ * conditions of the Licence agreement ("the Licence").  You may not use this
+ * source code or any derived binaries except in compliance with the Licence.
+ * A copy of the Licence is available in the file named LICENCE shipped with
+ * this source code or binaries.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * Licence for the specific language governing permissions and limitations
+ * under the Licence.
+ */
+
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.StdSchedulerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * <p>Builds independent {@link QuartzEngine}s, each with their own Quartz
+ * scheduler, thread pool, job store, job instances, metrics and set of scanned
+ * packages.  This allows, for example, a low latency engine and a batch engine
+ * to run side by side without competing for the same thread pool:</p>
+ *
+ * <pre>
+ * QuartzEngine lowLatency = QuartzEngineBuilder.newEngine("low-latency")
+ *     .withThreadCount(4)
+ *     .withPackages("com.app.jobs.realtime")
+ *     .build();
+ *
+ * QuartzEngine batch = QuartzEngineBuilder.newEngine("batch")
+ *     .withThreadCount(20)
+ *     .withJobStoreClass("org.quartz.impl.jdbcjobstore.JobStoreTX")
+ *     .withProperty("org.quartz.jobStore.dataSource", "batchDS")
+ *     .withPackages("com.app.jobs.batch")
+ *     .build();
+ * </pre>
+ *
+ * <p>The scheduler name must be unique within the JVM, as Quartz shares
+ * schedulers with the same name.</p>
+ *
+ * @author synapticloop
+ */
+public class QuartzEngineBuilder {
+	public static final int DEFAULT_THREAD_COUNT = 10;
+	public static final String DEFAULT_THREAD_POOL_CLASS = "org.quartz.simpl.SimpleThreadPool";
+	public static final String DEFAULT_JOB_STORE_CLASS = "org.quartz.simpl.RAMJobStore";
+
+	private final String schedulerName;
+	private int threadCount = DEFAULT_THREAD_COUNT;
+	private int threadPriority = Thread.NORM_PRIORITY;
+	private String jobStoreClass = DEFAULT_JOB_STORE_CLASS;
+	private int defaultJitterSeconds = Integer.getInteger(QuartzEngine.PROPERTY_DEFAULT_JITTER_SECONDS, 0);
+	private final Properties properties = new Properties();
+	private final List<String> packagesToScan = new ArrayList<>();
+
+	private QuartzEngineBuilder(String schedulerName) {
+		this.schedulerName = schedulerName;
+	}
+
+	/**
+	 * <p>Start building a new engine.</p>
+	 *
+	 * @param schedulerName the unique name of the engine's Quartz scheduler
+	 *
+	 * @return the builder
+	 *
+	 * @throws IllegalArgumentException if the scheduler name is null or blank
+	 */
+	public static QuartzEngineBuilder newEngine(String schedulerName) {
+		if (null == schedulerName || schedulerName.isBlank()) {
+			throw new IllegalArgumentException("The scheduler name must not be null or blank.");
+		}
+		return new QuartzEngineBuilder(schedulerName);
+	}
+
+	/**
+	 * @param threadCount the number of threads in the engine's thread pool (default 10)
+	 *
+	 * @return the builder
+	 */
+	public QuartzEngineBuilder withThreadCount(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("The thread count must be at least 1.");
+		}
+		this.threadCount = threadCount;
+		return this;
+	}
+
+	/**
+	 * @param threadPriority the priority of the engine's worker threads (default {@link Thread#NORM_PRIORITY})
+	 *
+	 * @return the builder
+	 */
+	public QuartzEngineBuilder withThreadPriority(int threadPriority) {
+		if (threadPriority < Thread.MIN_PRIORITY || threadPriority > Thread.MAX_PRIORITY) {
+			throw new IllegalArgumentException("The thread priority must be between " + Thread.MIN_PRIORITY + " and " + Thread.MAX_PRIORITY + ".");
+		}
+		this.threadPriority = threadPriority;
+		return this;
+	}
+
+	/**
+	 * <p>Set the job store class, any configuration that the job store requires
+	 * (e.g. the data source for a JDBC job store) is passed through with
+	 * {@link #withProperty(String, String)}.</p>
+	 *
+	 * @param jobStoreClass the fully qualified class name of the Quartz job store (default RAMJobStore)
+	 *
+	 * @return the builder
+	 */
+	public QuartzEngineBuilder withJobStoreClass(String jobStoreClass) {
+		this.jobStoreClass = jobStoreClass;
+		return this;
+	}
+
+	/**
+	 * @param defaultJitterSeconds the default jitter window for the engine's jobs
+	 * 		(see {@link QuartzEngine#setDefaultJitterSeconds(int)})
+	 *
+	 * @return the builder
+	 */
+	public QuartzEngineBuilder withDefaultJitterSeconds(int defaultJitterSeconds) {
+		this.defaultJitterSeconds = defaultJitterSeconds;
+		return this;
+	}
+
+	/**
+	 * <p>Set an additional Quartz property for the engine's scheduler, these are
+	 * applied last so will override any of the other builder settings - apart
+	 * from the scheduler name, which can only be set through
+	 * {@link #newEngine(String)}.</p>
+	 *
+	 * @param key the Quartz property key (e.g. "org.quartz.jobStore.misfireThreshold")
+	 * @param value the value
+	 *
+	 * @return the builder
+	 *
+	 * @throws IllegalArgumentException if the key is the scheduler instance name
+	 */
+	public QuartzEngineBuilder withProperty(String key, String value) {
+		if (StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME.equals(key)) {
+			throw new IllegalArgumentException("The scheduler name can only be set through QuartzEngineBuilder.newEngine(String).");
+		}
+		this.properties.setProperty(key, value);
+		return this;
+	}
+
+	/**
+	 * @param packagesToScan the packages to scan for jobs when the engine is built
+	 *
+	 * @return the builder
+	 */
+	public QuartzEngineBuilder withPackages(String... packagesToScan) {
+		this.packagesToScan.addAll(Arrays.asList(packagesToScan));
+		return this;
+	}
+
+	/**
+	 * <p>Create and start the engine, then scan any packages.</p>
+	 *
+	 * @return the started engine
+	 *
+	 * @throws SchedulerException if the scheduler could not be created or started,
+	 * 		or a scheduler with the same name already exists
+	 */
+	public QuartzEngine build() throws SchedulerException {
+		Properties schedulerProperties = new Properties();
+		schedulerProperties.setProperty(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, schedulerName);
+		schedulerProperties.setProperty(StdSchedulerFactory.PROP_THREAD_POOL_CLASS, DEFAULT_THREAD_POOL_CLASS);
+		schedulerProperties.setProperty("org.quartz.threadPool.threadCount", Integer.toString(threadCount));
+		schedulerProperties.setProperty("org.quartz.threadPool.threadPriority", Integer.toString(threadPriority));
+		schedulerProperties.setProperty(StdSchedulerFactory.PROP_JOB_STORE_CLASS, jobStoreClass);
+		schedulerProperties.putAll(properties);
+
+		StdSchedulerFactory schedulerFactory = new StdSchedulerFactory(schedulerProperties);
+		if (null != schedulerFactory.getScheduler(schedulerName)) {
+			throw new SchedulerException("A scheduler named '" + schedulerName + "' already exists.");
+		}
+
+		Scheduler scheduler = schedulerFactory.getScheduler();
+		QuartzEngine engine;
+		try {
+			engine = new QuartzEngine(scheduler, defaultJitterSeconds);
+		} catch (SchedulerException e) {
+			// don't shut down a scheduler that another engine is running
+			if (scheduler.getContext().get(QuartzEngine.ENGINE_CONTEXT_KEY) == null) {
+				scheduler.shutdown(false);
+			}
+			throw e;
+		}
+
+		if (!packagesToScan.isEmpty()) {
+			engine.scanPackages(packagesToScan.toArray(new String[0]));
+		}
+		return engine;
+	}
+}
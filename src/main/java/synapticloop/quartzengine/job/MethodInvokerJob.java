@@ -34,14 +34,18 @@ public class MethodInvokerJob implements Job {
 		java.time.Instant start = java.time.Instant.now();
 		boolean success = false;
 		String errorMsg = null;
+		QuartzEngine engine = null;
 
 		LOGGER.debug("Job: {} executing", key);
 		try {
+			// the engine that owns this scheduler registered itself in the context
+			engine = QuartzEngine.fromContext(context);
 
 			JobDataMap dataMap = context.getMergedJobDataMap();
-			Object targetObject = dataMap.get(QuartzEngine.TARGET_OBJECT);
-			Method method = (Method) dataMap.get(QuartzEngine.TARGET_METHOD);
-			String[] params = (String[]) dataMap.get(QuartzEngine.PARAMS_ARRAY);
+			Object targetObject = engine.getJobInstance(dataMap.getString(QuartzEngine.TARGET_CLASS));
+			Method method = (null == targetObject ? null : engine.getJobMethod(key, targetObject,
+					dataMap.getString(QuartzEngine.TARGET_METHOD_NAME),
+					(String[]) dataMap.get(QuartzEngine.TARGET_PARAMETER_TYPES)));
 
 			if (targetObject == null || method == null) {
 				throw new JobExecutionException("Target Object or Method was missing from JobDataMap!");
@@ -72,9 +76,9 @@ public class MethodInvokerJob implements Job {
 		} finally {
 			long duration = java.time.Duration.between(start, java.time.Instant.now()).toMillis();
 
-			// Save the metric back to the singleton engine
-			try {
-				QuartzEngine.getInstance().getStats().addMetric(new JobMetric(
+			// Save the metric back to the owning engine
+			if (engine != null) {
+				engine.getStats().addMetric(new JobMetric(
 						key.getName(),
 						key.getGroup(),
 						start,
@@ -82,7 +86,7 @@ public class MethodInvokerJob implements Job {
 						success,
 						errorMsg
 				));
-			} catch (Exception ignored) {}
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -1,13 +1,33 @@
 package synapticloop.quartzengine.metric;
 
+import org.quartz.JobKey;
 import synapticloop.quartzengine.metric.JobMetric;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * <p>Holds the job execution metrics for an engine - both the raw history of the
+ * last {@value #MAX_METRICS} executions, and rolling time windows (see
+ * {@link RollingWindow}) for all jobs and for each individual job.  The
+ * rolling window methods are constant time reads, regardless of how many
+ * executions have been recorded.</p>
+ *
+ * <p>The per job windows are created the first time a job runs and are kept
+ * until {@link #clear()} is called.  They cost roughly 4KB per job (216 buckets
+ * across the four windows), so an engine running 10,000 distinct jobs holds
+ * around 40MB of per job windows.</p>
+ */
 public class JobMetricStatistics {
 	private static final int MAX_METRICS = 100;
 	private final List<JobMetric> metrics = Collections.synchronizedList(new LinkedList<>());
+	// the number of successful metrics currently held in the list
+	private int successCount = 0;
+
+	private final RollingJobMetrics globalRollingMetrics = new RollingJobMetrics();
+	// keyed on the group and name, as the job name alone is not unique
+	private final Map<JobKey, RollingJobMetrics> jobRollingMetrics = new ConcurrentHashMap<>();
 
 	/**
 	 * Adds a metric and ensures the list doesn't exceed MAX_METRICS.
@@ -15,11 +35,18 @@ public class JobMetricStatistics {
 	public void addMetric(JobMetric metric) {
 		synchronized (metrics) {
 			if (metrics.size() >= MAX_METRICS) {
-				metrics.remove(0);
-			} else {
-				metrics.add(metric);
+				if (metrics.remove(0).successful()) {
+					successCount--;
+				}
+			}
+			metrics.add(metric);
+			if (metric.successful()) {
+				successCount++;
 			}
 		}
+
+		globalRollingMetrics.record(metric);
+		jobRollingMetrics.computeIfAbsent(new JobKey(metric.name(), metric.group()), k -> new RollingJobMetrics()).record(metric);
 	}
 
 	/** Returns the raw list of all captured metrics. */
@@ -32,17 +59,20 @@ public class JobMetricStatistics {
 	}
 
 	public long getSuccessCount() {
-		return metrics.stream().filter(JobMetric::successful).count();
+		synchronized (metrics) {
+			return successCount;
+		}
 	}
 
 	public long getFailureCount() {
-		return metrics.size() - getSuccessCount();
+		synchronized (metrics) {
+			return metrics.size() - successCount;
+		}
 	}
 
 	public double getSuccessPercentage() {
 		synchronized (metrics) {
 		if (metrics.isEmpty()) return 0.0;
-			long successCount = metrics.stream().filter(JobMetric::successful).count();
 			return (successCount * 100.0) / metrics.size();
 		}
 	}
@@ -50,8 +80,45 @@ public class JobMetricStatistics {
 	public double getFailurePercentage() {
 		synchronized (metrics) {
 		if (metrics.isEmpty()) return 0.0;
-			return 100.0 - getSuccessPercentage();
+			return ((metrics.size() - successCount) * 100.0) / metrics.size();
+		}
+	}
+
+	/** Returns a snapshot of all job executions that finished within the window. */
+	public RollingWindowStatistics getWindowStatistics(RollingWindow window) {
+		return globalRollingMetrics.getStatistics(window);
+	}
+
+	/**
+	 * Returns a snapshot of the job's executions that finished within the
+	 * window, or an empty snapshot if the job has never been run.
+	 */
+	public RollingWindowStatistics getWindowStatistics(JobKey jobKey, RollingWindow window) {
+		RollingJobMetrics rollingJobMetrics = jobRollingMetrics.get(jobKey);
+		if (null == rollingJobMetrics) {
+			return new RollingWindowStatistics(window, 0L, 0L, 0L);
 		}
+		return rollingJobMetrics.getStatistics(window);
+	}
+
+	public double getSuccessPercentage(RollingWindow window) {
+		return getWindowStatistics(window).successPercentage();
+	}
+
+	public double getFailurePercentage(RollingWindow window) {
+		return getWindowStatistics(window).failurePercentage();
+	}
+
+	public long getFailureCount(RollingWindow window) {
+		return getWindowStatistics(window).failures();
+	}
+
+	public double getRunsPerSecond(RollingWindow window) {
+		return getWindowStatistics(window).runsPerSecond();
+	}
+
+	public double getMeanDurationMs(RollingWindow window) {
+		return getWindowStatistics(window).meanDurationMs();
 	}
 
 	/** Returns a map of statistics grouped by Job Name. */
@@ -71,7 +138,12 @@ public class JobMetricStatistics {
 	}
 
 	public void clear() {
-		metrics.clear();
+		synchronized (metrics) {
+			metrics.clear();
+			successCount = 0;
+		}
+		globalRollingMetrics.clear();
+		jobRollingMetrics.clear();
 	}
 
 }
\ No newline at end of file
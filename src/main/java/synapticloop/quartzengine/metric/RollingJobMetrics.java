@@ -0,0 +1,46 @@
+package synapticloop.quartzengine.metric;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <p>Holds a {@link RollingWindowCounter} for every {@link RollingWindow}, either
+ * for a single job or for all jobs.</p>
+ */
+public class RollingJobMetrics {
+	private final Map<RollingWindow, RollingWindowCounter> counters = new EnumMap<>(RollingWindow.class);
+
+	public RollingJobMetrics() {
+		this(System.currentTimeMillis());
+	}
+
+	RollingJobMetrics(long nowMillis) {
+		for (RollingWindow window : RollingWindow.values()) {
+			counters.put(window, new RollingWindowCounter(window, nowMillis));
+		}
+	}
+
+	/**
+	 * Records the metric in every window, using the time that the job finished.
+	 */
+	public void record(JobMetric metric) {
+		long finishMillis = metric.startTime().toEpochMilli() + metric.durationMs();
+		for (RollingWindowCounter counter : counters.values()) {
+			counter.record(finishMillis, metric.durationMs(), metric.successful());
+		}
+	}
+
+	public RollingWindowStatistics getStatistics(RollingWindow window) {
+		return getStatistics(window, System.currentTimeMillis());
+	}
+
+	RollingWindowStatistics getStatistics(RollingWindow window, long nowMillis) {
+		return counters.get(window).getStatistics(nowMillis);
+	}
+
+	public void clear() {
+		for (RollingWindowCounter counter : counters.values()) {
+			counter.clear();
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package synapticloop.quartzengine.metric;
+
+/**
+ * <p>The time windows that the rolling job metrics are kept for.  Each window
+ * is split into a fixed number of buckets, which rotate as time passes, so the
+ * window's statistics are accurate to within one bucket.</p>
+ */
+public enum RollingWindow {
+	ONE_MINUTE(60_000L, 30),
+	FIVE_MINUTES(300_000L, 30),
+	ONE_HOUR(3_600_000L, 60),
+	TWENTY_FOUR_HOURS(86_400_000L, 96);
+
+	private final long windowMillis;
+	private final int numBuckets;
+
+	RollingWindow(long windowMillis, int numBuckets) {
+		this.windowMillis = windowMillis;
+		this.numBuckets = numBuckets;
+	}
+
+	public long getWindowMillis() {
+		return windowMillis;
+	}
+
+	public int getNumBuckets() {
+		return numBuckets;
+	}
+
+	public long getBucketMillis() {
+		return windowMillis / numBuckets;
+	}
+}
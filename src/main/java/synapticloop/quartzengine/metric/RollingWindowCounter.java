@@ -0,0 +1,111 @@
+package synapticloop.quartzengine.metric;
+
+/**
+ * <p>Counts the runs, failures and total duration of job executions over a
+ * single {@link RollingWindow}.  The window is held as a ring of buckets with
+ * running totals, so recording an execution and reading the totals never
+ * depends on how many executions have been recorded - expired buckets are
+ * subtracted from the totals as the ring rotates.</p>
+ */
+public class RollingWindowCounter {
+	private final RollingWindow window;
+	private final long bucketMillis;
+	private final int numBuckets;
+
+	private final int[] runs;
+	private final int[] failures;
+	private final long[] durations;
+
+	// the absolute bucket number (time / bucketMillis) of the newest bucket
+	private long currentBucket;
+
+	private long totalRuns = 0L;
+	private long totalFailures = 0L;
+	private long totalDurationMs = 0L;
+
+	public RollingWindowCounter(RollingWindow window) {
+		this(window, System.currentTimeMillis());
+	}
+
+	RollingWindowCounter(RollingWindow window, long nowMillis) {
+		this.window = window;
+		this.bucketMillis = window.getBucketMillis();
+		this.numBuckets = window.getNumBuckets();
+		this.runs = new int[numBuckets];
+		this.failures = new int[numBuckets];
+		this.durations = new long[numBuckets];
+		this.currentBucket = nowMillis / bucketMillis;
+	}
+
+	/**
+	 * <p>Record a single execution, executions that finished before the start of
+	 * the window are ignored.</p>
+	 *
+	 * @param finishMillis the time that the execution finished
+	 * @param durationMs the duration of the execution
+	 * @param successful whether the execution was successful
+	 */
+	public synchronized void record(long finishMillis, long durationMs, boolean successful) {
+		long bucket = finishMillis / bucketMillis;
+		advance(bucket);
+
+		if (bucket <= currentBucket - numBuckets) {
+			return;
+		}
+
+		int index = (int) Math.floorMod(bucket, (long) numBuckets);
+		runs[index]++;
+		durations[index] += durationMs;
+		totalRuns++;
+		totalDurationMs += durationMs;
+		if (!successful) {
+			failures[index]++;
+			totalFailures++;
+		}
+	}
+
+	/**
+	 * <p>Get a snapshot of the totals for the window ending now.</p>
+	 *
+	 * @param nowMillis the current time
+	 *
+	 * @return the snapshot of the window
+	 */
+	public synchronized RollingWindowStatistics getStatistics(long nowMillis) {
+		advance(nowMillis / bucketMillis);
+		return new RollingWindowStatistics(window, totalRuns, totalFailures, totalDurationMs);
+	}
+
+	public synchronized void clear() {
+		for (int i = 0; i < numBuckets; i++) {
+			runs[i] = 0;
+			failures[i] = 0;
+			durations[i] = 0L;
+		}
+		totalRuns = 0L;
+		totalFailures = 0L;
+		totalDurationMs = 0L;
+	}
+
+	/**
+	 * <p>Rotate the ring forward to the bucket, expiring (at most one full ring
+	 * of) buckets that have fallen out of the window.</p>
+	 */
+	private void advance(long bucket) {
+		if (bucket <= currentBucket) {
+			return;
+		}
+
+		long numExpired = Math.min(bucket - currentBucket, numBuckets);
+		for (long i = 1; i <= numExpired; i++) {
+			int index = (int) Math.floorMod(currentBucket + i, (long) numBuckets);
+			totalRuns -= runs[index];
+			totalFailures -= failures[index];
+			totalDurationMs -= durations[index];
+			runs[index] = 0;
+			failures[index] = 0;
+			durations[index] = 0L;
+		}
+		currentBucket = bucket;
+	}
+}
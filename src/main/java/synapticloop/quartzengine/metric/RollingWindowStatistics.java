@@ -0,0 +1,34 @@
+package synapticloop.quartzengine.metric;
+
+/**
+ * An immutable snapshot of the job executions over a {@link RollingWindow}.
+ */
+public record RollingWindowStatistics(
+		RollingWindow window,
+		long runs,
+		long failures,
+		long totalDurationMs
+) {
+	public long successes() {
+		return runs - failures;
+	}
+
+	public double successPercentage() {
+		if (runs == 0) return 0.0;
+		return (successes() * 100.0) / runs;
+	}
+
+	public double failurePercentage() {
+		if (runs == 0) return 0.0;
+		return (failures * 100.0) / runs;
+	}
+
+	public double runsPerSecond() {
+		return (runs * 1000.0) / window.getWindowMillis();
+	}
+
+	public double meanDurationMs() {
+		if (runs == 0) return 0.0;
+		return (double) totalDurationMs / runs;
+	}
+}
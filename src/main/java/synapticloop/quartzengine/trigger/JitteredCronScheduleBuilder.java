@@ -0,0 +1,90 @@
+package synapticloop.quartzengine.trigger;
+
+/* Copyright (c) 2026 synapticloop.
+ * All rights reserved.
+ *
+ * This source code and any derived binaries are covered by the terms and
+ * conditions of the Licence agreement ("the Licence").  You may not use this
+ * source code or any derived binaries except in compliance with the Licence.
+ * A copy of the Licence is available in the file named LICENCE shipped with
+ * this source code or binaries.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * Licence for the specific language governing permissions and limitations
+ * under the Licence.
+ */
+
+import org.quartz.CronExpression;
+import org.quartz.CronTrigger;
+import org.quartz.ScheduleBuilder;
+import org.quartz.spi.MutableTrigger;
+
+import java.text.ParseException;
+import java.util.TimeZone;
+
+/**
+ * <p>A {@link ScheduleBuilder} for {@link JitteredCronTrigger}s, used in the same
+ * way as Quartz's {@code CronScheduleBuilder}:</p>
+ *
+ * <pre>
+ * TriggerBuilder.newTrigger()
+ *     .withSchedule(JitteredCronScheduleBuilder.jitteredCronSchedule("0 * * * * ?", 12_500L))
+ *     .build();
+ * </pre>
+ *
+ * @author synapticloop
+ */
+public class JitteredCronScheduleBuilder extends ScheduleBuilder<CronTrigger> {
+	private final CronExpression cronExpression;
+	private final long offsetMillis;
+	private int misfireInstruction = CronTrigger.MISFIRE_INSTRUCTION_SMART_POLICY;
+
+	private JitteredCronScheduleBuilder(CronExpression cronExpression, long offsetMillis) {
+		this.cronExpression = cronExpression;
+		this.offsetMillis = offsetMillis;
+	}
+
+	/**
+	 * <p>Create a schedule builder for the cron expression, with every fire time
+	 * shifted by the offset.</p>
+	 *
+	 * @param cronExpression the cron expression
+	 * @param offsetMillis the number of milliseconds to shift every fire time by
+	 *
+	 * @return the schedule builder
+	 *
+	 * @throws RuntimeException if the cron expression is invalid (mirroring the
+	 * 		behaviour of {@code CronScheduleBuilder.cronSchedule(String)})
+	 */
+	public static JitteredCronScheduleBuilder jitteredCronSchedule(String cronExpression, long offsetMillis) {
+		try {
+			return new JitteredCronScheduleBuilder(new CronExpression(cronExpression), offsetMillis);
+		} catch (ParseException e) {
+			throw new RuntimeException("CronExpression '" + cronExpression + "' is invalid.", e);
+		}
+	}
+
+	public JitteredCronScheduleBuilder inTimeZone(TimeZone timeZone) {
+		if (null != timeZone) {
+			cronExpression.setTimeZone(timeZone);
+		}
+		return this;
+	}
+
+	public JitteredCronScheduleBuilder withMisfireInstruction(int misfireInstruction) {
+		this.misfireInstruction = misfireInstruction;
+		return this;
+	}
+
+	@Override
+	protected MutableTrigger build() {
+		JitteredCronTrigger trigger = new JitteredCronTrigger();
+		trigger.setCronExpression(cronExpression);
+		trigger.setTimeZone(cronExpression.getTimeZone());
+		trigger.setMisfireInstruction(misfireInstruction);
+		trigger.setOffsetMillis(offsetMillis);
+		return trigger;
+	}
+}
@@ -0,0 +1,165 @@
+package synapticloop.quartzengine.trigger;
+
+/* Copyright (c) 2026 synapticloop.
+ * All rights reserved.
+ *
+ * This source code and any derived binaries are covered by the terms and
+ * conditions of the Licence agreement ("the Licence").  You may not use this
+ * source code or any derived binaries except in compliance with the Licence.
+ * A copy of the Licence is available in the file named LICENCE shipped with
+ * this source code or binaries.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * Licence for the specific language governing permissions and limitations
+ * under the Licence.
+ */
+
+import org.quartz.CronTrigger;
+import org.quartz.ScheduleBuilder;
+import org.quartz.impl.triggers.CronTriggerImpl;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * <p>A cron trigger whose fire times are all shifted by a fixed offset, so that
+ * jobs sharing the same cron expression (e.g. {@code "0 * * * * ?"}) do not
+ * all fire at exactly the same instant.</p>
+ *
+ * <p>A fire time of this trigger is the cron fire time plus the offset.  An
+ * offset of a whole period of the cron expression lands on the same instants as
+ * no offset at all, so offsets (and therefore jitter windows) larger than the
+ * period do not spread the fires any further - they wrap around and bunch the
+ * jobs back up.</p>
+ *
+ * @author synapticloop
+ */
+public class JitteredCronTrigger extends CronTriggerImpl {
+	private static final long serialVersionUID = 1L;
+
+	private long offsetMillis = 0L;
+
+	public long getOffsetMillis() {
+		return offsetMillis;
+	}
+
+	public void setOffsetMillis(long offsetMillis) {
+		this.offsetMillis = offsetMillis;
+	}
+
+	/**
+	 * <p>Returns the next cron fire time after the passed in time, shifted by the
+	 * offset.  This mirrors {@link CronTriggerImpl#getFireTimeAfter(Date)} with
+	 * the offset removed before the cron expression is evaluated and added back
+	 * afterwards.</p>
+	 *
+	 * @param afterTime the time after which to find the next fire time
+	 *
+	 * @return the next fire time, or {@code null} if the trigger will not fire again
+	 */
+	@Override
+	public Date getFireTimeAfter(Date afterTime) {
+		if (afterTime == null) {
+			afterTime = new Date();
+		}
+
+		if (getStartTime().after(afterTime)) {
+			afterTime = new Date(getStartTime().getTime() - 1000L);
+		}
+
+		if (getEndTime() != null && (afterTime.compareTo(getEndTime()) >= 0)) {
+			return null;
+		}
+
+		Date cronTime = getTimeAfter(new Date(afterTime.getTime() - offsetMillis));
+		if (cronTime == null) {
+			return null;
+		}
+
+		Date fireTime = new Date(cronTime.getTime() + offsetMillis);
+		if (getEndTime() != null && fireTime.after(getEndTime())) {
+			return null;
+		}
+
+		return fireTime;
+	}
+
+	/**
+	 * <p>Returns the last fire time of the trigger, shifted by the offset, so
+	 * that it is the last cron fire time whose shifted time is not after the end
+	 * time.  As with {@link CronTriggerImpl#getFinalFireTime()} this depends on
+	 * the Quartz cron expression being able to look backwards, which it may not
+	 * support, in which case this returns {@code null}.</p>
+	 *
+	 * @return the final fire time, or {@code null} if there is none or it cannot be determined
+	 */
+	@Override
+	public Date getFinalFireTime() {
+		Date cronTime;
+		if (getEndTime() != null) {
+			long lastCronMillis = getEndTime().getTime() - offsetMillis;
+			cronTime = getTimeBefore(new Date(lastCronMillis + 1000L));
+			// the cron expression works in whole seconds, step back if the shifted time passes the end time
+			if (cronTime != null && cronTime.getTime() > lastCronMillis) {
+				cronTime = getTimeBefore(cronTime);
+			}
+		} else {
+			cronTime = super.getFinalFireTime();
+		}
+
+		if (cronTime == null) {
+			return null;
+		}
+
+		Date fireTime = new Date(cronTime.getTime() + offsetMillis);
+		if (getStartTime() != null && fireTime.before(getStartTime())) {
+			return null;
+		}
+		return fireTime;
+	}
+
+	/**
+	 * <p>Returns whether the trigger fires within the second (or, with
+	 * {@code dayOnly}, the day) of the passed in calendar, using the shifted fire
+	 * times.  {@link CronTriggerImpl#willFireOn(Calendar, boolean)} ignores the
+	 * milliseconds of the calendar and then matches the fire time exactly, which
+	 * would never match an offset with a millisecond part, so any fire time in
+	 * the calendar's second matches here.</p>
+	 *
+	 * @param test the time to test
+	 * @param dayOnly whether to only test the day of the calendar
+	 *
+	 * @return whether the trigger fires at that time (or on that day)
+	 */
+	@Override
+	public boolean willFireOn(Calendar test, boolean dayOnly) {
+		if (dayOnly) {
+			// the day check goes through getFireTimeAfter, which applies the offset
+			return super.willFireOn(test, true);
+		}
+
+		long secondStart = test.getTimeInMillis() - Math.floorMod(test.getTimeInMillis(), 1000L);
+		Date fireTime = getFireTimeAfter(new Date(secondStart - 1L));
+		return fireTime != null && fireTime.getTime() < secondStart + 1000L;
+	}
+
+	/**
+	 * <p>The offset is not part of the flattened cron trigger table of the JDBC
+	 * job stores, so the trigger is persisted as a serialised blob instead.</p>
+	 *
+	 * @return always true
+	 */
+	@Override
+	public boolean hasAdditionalProperties() {
+		return true;
+	}
+
+	@Override
+	public ScheduleBuilder<CronTrigger> getScheduleBuilder() {
+		return JitteredCronScheduleBuilder.jitteredCronSchedule(getCronExpression(), offsetMillis)
+				.inTimeZone(getTimeZone())
+				.withMisfireInstruction(getMisfireInstruction());
+	}
+}
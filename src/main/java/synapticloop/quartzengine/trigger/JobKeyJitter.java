@@ -0,0 +1,68 @@
+package synapticloop.quartzengine.trigger;
+
+/* Copyright (c) 2026 synapticloop.
+ * All rights reserved.
+ *
+ * This source code and any derived binaries are covered by the terms and
+ * conditions of the Licence agreement ("the Licence").  You may not use this
+ * source code or any derived binaries except in compliance with the Licence.
+ * A copy of the Licence is available in the file named LICENCE shipped with
+ * this source code or binaries.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * Licence for the specific language governing permissions and limitations
+ * under the Licence.
+ */
+
+import org.quartz.JobKey;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Calculates a stable offset for a job within a jitter window, derived from
+ * a hash of its {@link JobKey}.  The same job will always receive the same
+ * offset (across restarts and JVMs), whilst jobs with similar names are
+ * spread evenly across the window.</p>
+ *
+ * @author synapticloop
+ */
+public final class JobKeyJitter {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private JobKeyJitter() {}
+
+	/**
+	 * <p>Compute the offset for the job within the jitter window.</p>
+	 *
+	 * @param jobKey the key of the job
+	 * @param jitterSeconds the size of the window in seconds
+	 *
+	 * @return the offset in milliseconds, in the range [0, jitterSeconds * 1000),
+	 * 		or 0 if the window is not positive
+	 */
+	public static long offsetMillis(JobKey jobKey, int jitterSeconds) {
+		if (jitterSeconds <= 0) {
+			return 0L;
+		}
+
+		// FNV-1a over the group and name - String.hashCode() would place
+		// sequentially named jobs next to each other in the window
+		long hash = FNV_OFFSET_BASIS;
+		for (byte b : (jobKey.getGroup() + "." + jobKey.getName()).getBytes(StandardCharsets.UTF_8)) {
+			hash ^= (b & 0xff);
+			hash *= FNV_PRIME;
+		}
+
+		// final avalanche so that every bit of the key affects the offset
+		hash ^= (hash >>> 33);
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= (hash >>> 33);
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= (hash >>> 33);
+
+		return Math.floorMod(hash, jitterSeconds * 1000L);
+	}
+}
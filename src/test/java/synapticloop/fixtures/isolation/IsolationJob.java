@@ -0,0 +1,34 @@
+package synapticloop.fixtures.isolation;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.SchedulerException;
+import synapticloop.quartzengine.annotation.QuartzEngineJob;
+import synapticloop.quartzengine.annotation.QuartzEngineJobRunNow;
+import synapticloop.quartzengine.engine.QuartzEngine;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records which instance, thread and engine ran it, keyed on the scheduler name.
+ * This lives outside of the synapticloop.quartzengine package so that it is
+ * not picked up by the TestMain (and README) scan of that package.
+ */
+public class IsolationJob {
+	public static final Map<String, Set<Object>> INSTANCES = new ConcurrentHashMap<>();
+	public static final Map<String, Set<String>> THREADS = new ConcurrentHashMap<>();
+	public static final Map<String, Set<QuartzEngine>> ENGINES = new ConcurrentHashMap<>();
+	public static final Map<String, AtomicInteger> RUN_COUNTS = new ConcurrentHashMap<>();
+
+	@QuartzEngineJobRunNow
+	@QuartzEngineJob(cronExpression = "0/1 * * * * ?", group = "isolation", jitterSeconds = 0)
+	public void run(JobExecutionContext context) throws SchedulerException {
+		String schedulerName = context.getScheduler().getSchedulerName();
+		INSTANCES.computeIfAbsent(schedulerName, k -> ConcurrentHashMap.newKeySet()).add(this);
+		THREADS.computeIfAbsent(schedulerName, k -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+		ENGINES.computeIfAbsent(schedulerName, k -> ConcurrentHashMap.newKeySet()).add(QuartzEngine.fromContext(context));
+		RUN_COUNTS.computeIfAbsent(schedulerName, k -> new AtomicInteger()).incrementAndGet();
+	}
+}
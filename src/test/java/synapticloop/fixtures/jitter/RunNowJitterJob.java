@@ -0,0 +1,16 @@
+package synapticloop.fixtures.jitter;
+
+import synapticloop.quartzengine.annotation.QuartzEngineJob;
+import synapticloop.quartzengine.annotation.QuartzEngineJobRunNow;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RunNowJitterJob {
+	public static final AtomicInteger RUN_COUNT = new AtomicInteger();
+
+	@QuartzEngineJobRunNow
+	@QuartzEngineJob(cronExpression = "0 0 0 1 1 ? 2099", group = "jitter", jitterSeconds = 3600)
+	public void run() {
+		RUN_COUNT.incrementAndGet();
+	}
+}
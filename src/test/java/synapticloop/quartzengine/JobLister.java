@@ -1,5 +1,6 @@
 package synapticloop.quartzengine;
 
+import org.quartz.JobExecutionContext;
 import synapticloop.quartzengine.annotation.QuartzEngineJob;
 import synapticloop.quartzengine.annotation.QuartzEngineJobRunNow;
 import synapticloop.quartzengine.engine.QuartzEngine;
@@ -11,10 +12,10 @@ public class JobLister {
 
 	@QuartzEngineJobRunNow
 	@QuartzEngineJob(cronExpression = "0/10 * * * * ?")
-	public void list() {
+	public void list(JobExecutionContext context) {
 		try {
-			// Access the singleton engine
-			QuartzEngine engine = QuartzEngine.getInstance();
+			// Access the engine running this job
+			QuartzEngine engine = QuartzEngine.fromContext(context);
 
 			// Get the list of job records
 			List<JobDetailRecord> upcomingJobs = engine.listScheduledJobs();
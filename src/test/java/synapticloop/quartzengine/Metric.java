@@ -1,5 +1,6 @@
 package synapticloop.quartzengine;
 
+import org.quartz.JobExecutionContext;
 import org.quartz.SchedulerException;
 import synapticloop.quartzengine.annotation.QuartzEngineJob;
 import synapticloop.quartzengine.engine.QuartzEngine;
@@ -7,11 +8,11 @@ import synapticloop.quartzengine.metric.JobMetric;
 
 public class Metric {
 	@QuartzEngineJob(group = "metrics", cronExpression = "0/10 * * * * ?")
-	public void printPerformanceReport() throws SchedulerException {
+	public void printPerformanceReport(JobExecutionContext context) throws SchedulerException {
 		System.out.println("\n--- Job Execution History (Last " + QuartzEngine.MAX_METRICS + ") ---");
 		System.out.printf("%-40s | %-10s | %-8s | %-7s%n", "Job Name", "Duration", "Result", "Start Time");
 
-		for (JobMetric m : QuartzEngine.getInstance().getStats().getAllMetrics()) {
+		for (JobMetric m : QuartzEngine.fromContext(context).getStats().getAllMetrics()) {
 			System.out.printf("%-40s | %-8dms | %-8s | %s%n",
 					m.name(), m.durationMs(),
 					m.successful() ? "SUCCESS" : "FAILED",
@@ -3,9 +3,11 @@ package synapticloop.quartzengine;
 import java.util.DoubleSummaryStatistics;
 import java.util.Map;
 
+import org.quartz.JobExecutionContext;
 import synapticloop.quartzengine.annotation.QuartzEngineJob;
 import synapticloop.quartzengine.engine.QuartzEngine;
 import synapticloop.quartzengine.metric.JobMetricStatistics;
+import synapticloop.quartzengine.metric.RollingWindow;
 
 public class MetricsReporterJob {
 
@@ -14,10 +16,10 @@ public class MetricsReporterJob {
 	 * and individual job performance.
 	 */
 	@QuartzEngineJob(cronExpression = "0/13 * * * * ?", group = "SystemAdmin")
-	public void reportMetrics() {
+	public void reportMetrics(JobExecutionContext context) {
 		try {
-			// 1. Get the stats from the singleton engine
-			QuartzEngine engine = QuartzEngine.getInstance();
+			// 1. Get the stats from the engine running this job
+			QuartzEngine engine = QuartzEngine.fromContext(context);
 			JobMetricStatistics stats = engine.getStats();
 
 			if (stats.getAllMetrics().isEmpty()) {
@@ -31,6 +33,8 @@ public class MetricsReporterJob {
 			System.out.println("===============================================");
 			System.out.printf("Overall Success Rate: %.2f%%%n", stats.getSuccessPercentage());
 			System.out.printf("Total Recorded Runs:  %d%n", stats.getTotalRuns());
+			System.out.printf("Failure Rate (5m):    %.2f%%%n", stats.getFailurePercentage(RollingWindow.FIVE_MINUTES));
+			System.out.printf("Runs/sec (1m):        %.2f%n", stats.getRunsPerSecond(RollingWindow.ONE_MINUTE));
 			System.out.println("-----------------------------------------------");
 
 			// 3. Print Per-Job Performance
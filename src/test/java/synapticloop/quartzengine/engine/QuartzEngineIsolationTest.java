@@ -0,0 +1,84 @@
+package synapticloop.quartzengine.engine;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerException;
+import synapticloop.fixtures.isolation.IsolationJob;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuartzEngineIsolationTest {
+	private static final String ISOLATION_PACKAGE = "synapticloop.fixtures.isolation";
+	private static final String ENGINE_A = "QuartzEngineIsolationTestA";
+	private static final String ENGINE_B = "QuartzEngineIsolationTestB";
+
+	@Test
+	public void testEnginesAreIsolated() throws Exception {
+		QuartzEngine engineA = QuartzEngineBuilder.newEngine(ENGINE_A).withThreadCount(1).withPackages(ISOLATION_PACKAGE).build();
+		QuartzEngine engineB = QuartzEngineBuilder.newEngine(ENGINE_B).withThreadCount(3).withPackages(ISOLATION_PACKAGE).build();
+
+		try {
+			long timeout = System.currentTimeMillis() + 10_000L;
+			while ((runCount(ENGINE_A) < 2 || runCount(ENGINE_B) < 2) && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100L);
+			}
+			assertTrue(runCount(ENGINE_A) >= 2, "Engine A did not run the job");
+			assertTrue(runCount(ENGINE_B) >= 2, "Engine B did not run the job");
+		} finally {
+			// waits for the executing jobs, so the metrics are complete
+			engineA.shutdown();
+			engineB.shutdown();
+		}
+
+		// each engine has its own job instance
+		Object instanceA = engineA.getJobInstance(IsolationJob.class.getName());
+		Object instanceB = engineB.getJobInstance(IsolationJob.class.getName());
+		assertNotNull(instanceA);
+		assertNotNull(instanceB);
+		assertNotSame(instanceA, instanceB);
+		assertEquals(Set.of(instanceA), IsolationJob.INSTANCES.get(ENGINE_A));
+		assertEquals(Set.of(instanceB), IsolationJob.INSTANCES.get(ENGINE_B));
+
+		// jobs resolve the engine that ran them
+		assertEquals(Set.of(engineA), IsolationJob.ENGINES.get(ENGINE_A));
+		assertEquals(Set.of(engineB), IsolationJob.ENGINES.get(ENGINE_B));
+
+		// each engine runs on its own thread pool - engine A only has the one thread
+		assertEquals(1, IsolationJob.THREADS.get(ENGINE_A).size());
+		for (String threadName : IsolationJob.THREADS.get(ENGINE_A)) {
+			assertTrue(threadName.startsWith(ENGINE_A + "_Worker-"), threadName);
+		}
+		for (String threadName : IsolationJob.THREADS.get(ENGINE_B)) {
+			assertTrue(threadName.startsWith(ENGINE_B + "_Worker-"), threadName);
+		}
+
+		// and records its own metrics
+		assertNotSame(engineA.getStats(), engineB.getStats());
+		assertEquals(runCount(ENGINE_A), engineA.getStats().getTotalRuns());
+		assertEquals(runCount(ENGINE_B), engineB.getStats().getTotalRuns());
+	}
+
+	@Test
+	public void testDuplicateSchedulerNameIsRejected() throws Exception {
+		QuartzEngine engine = QuartzEngineBuilder.newEngine("QuartzEngineIsolationTestDuplicate").build();
+		try {
+			assertThrows(SchedulerException.class, () -> QuartzEngineBuilder.newEngine("QuartzEngineIsolationTestDuplicate").build());
+			assertSame(engine, engine.getScheduler().getContext().get(QuartzEngine.ENGINE_CONTEXT_KEY));
+		} finally {
+			engine.shutdown();
+		}
+	}
+
+	@Test
+	public void testSchedulerNameCannotBeOverridden() {
+		assertThrows(IllegalArgumentException.class, () -> QuartzEngineBuilder.newEngine("QuartzEngineIsolationTestOverride")
+				.withProperty("org.quartz.scheduler.instanceName", "DefaultQuartzScheduler"));
+	}
+
+	private static int runCount(String schedulerName) {
+		AtomicInteger runCount = IsolationJob.RUN_COUNTS.get(schedulerName);
+		return (null == runCount ? 0 : runCount.get());
+	}
+}
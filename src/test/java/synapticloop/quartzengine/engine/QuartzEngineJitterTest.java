@@ -0,0 +1,51 @@
+package synapticloop.quartzengine.engine;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import synapticloop.fixtures.jitter.RunNowJitterJob;
+import synapticloop.quartzengine.job.JobDetailRecord;
+import synapticloop.quartzengine.trigger.JitteredCronTrigger;
+import synapticloop.quartzengine.trigger.JobKeyJitter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuartzEngineJitterTest {
+	private static final String JOB_NAME = "RunNowJitterJob.run";
+	private static final String JOB_GROUP = "jitter";
+
+	@Test
+	public void testRunNowIsDelayedByOffset() throws Exception {
+		long before = System.currentTimeMillis();
+		QuartzEngine engine = QuartzEngineBuilder.newEngine("QuartzEngineJitterTest")
+				.withPackages("synapticloop.fixtures.jitter")
+				.build();
+		long after = System.currentTimeMillis();
+
+		try {
+			long offsetMillis = JobKeyJitter.offsetMillis(new JobKey(JOB_NAME, JOB_GROUP), 3600);
+
+			// the one shot trigger starts at the job's offset, rather than immediately
+			Trigger runNowTrigger = engine.getScheduler().getTrigger(new TriggerKey(JOB_NAME + QuartzEngine.RUN_NOW_TRIGGER, JOB_GROUP));
+			assertNotNull(runNowTrigger);
+			assertTrue(runNowTrigger.getStartTime().getTime() >= before + offsetMillis);
+			assertTrue(runNowTrigger.getStartTime().getTime() <= after + offsetMillis);
+			assertEquals(0, RunNowJitterJob.RUN_COUNT.get());
+
+			// the cron trigger carries the same offset
+			Trigger cronTrigger = engine.getScheduler().getTrigger(new TriggerKey(JOB_NAME + QuartzEngine.TRIGGER, JOB_GROUP));
+			assertTrue(cronTrigger instanceof JitteredCronTrigger);
+			assertEquals(offsetMillis, ((JitteredCronTrigger) cronTrigger).getOffsetMillis());
+
+			// and the listing reports the cron trigger, not the run now trigger
+			List<JobDetailRecord> jobDetailRecords = engine.listScheduledJobs();
+			assertEquals(1, jobDetailRecords.size());
+			assertEquals(cronTrigger.getNextFireTime(), jobDetailRecords.get(0).nextRunTime());
+		} finally {
+			engine.shutdown();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package synapticloop.quartzengine.loadtest;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.quartz.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <p>A Quartz {@link ConnectionProvider} backed by an embedded H2 database
+ * so that the load test can exercise a JDBC job store without any external
+ * database or connection pool dependency.  The bean properties are set by
+ * Quartz from the {@code org.quartz.dataSource.NAME.*} properties.</p>
+ */
+public class H2ConnectionProvider implements ConnectionProvider {
+	private String url;
+	private String user = "sa";
+	private String password = "";
+	private int maxConnections = 10;
+
+	private JdbcConnectionPool connectionPool;
+
+	@Override
+	public void initialize() throws SQLException {
+		connectionPool = JdbcConnectionPool.create(url, user, password);
+		connectionPool.setMaxConnections(maxConnections);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connectionPool.getConnection();
+	}
+
+	@Override
+	public void shutdown() throws SQLException {
+		if (null != connectionPool) {
+			connectionPool.dispose();
+		}
+	}
+
+	public void setUrl(String url) { this.url = url; }
+
+	public void setUser(String user) { this.user = user; }
+
+	public void setPassword(String password) { this.password = password; }
+
+	public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+}
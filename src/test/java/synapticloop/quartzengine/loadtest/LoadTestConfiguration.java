@@ -0,0 +1,53 @@
+package synapticloop.quartzengine.loadtest;
+
+/**
+ * <p>The configuration of a single load test run.</p>
+ *
+ * @param schedulerName the name of the engine's scheduler (also used to name the H2 database)
+ * @param numJobs the number of jobs to generate
+ * @param numGroups the number of groups to spread the jobs across
+ * @param jobsPerClass the number of job methods per generated class
+ * @param cronExpression the cron expression for every job
+ * @param runNow whether every job is also annotated with run now
+ * @param jitterSeconds the engine wide jitter window in seconds
+ * @param numThreads the Quartz thread pool size
+ * @param workMs the milliseconds of synthetic work per fire
+ * @param failureRate the fraction of fires that fail
+ * @param durationSeconds how long to run the workload for
+ * @param store either "ram" for the RAMJobStore, or "jdbc" for an embedded H2 database
+ */
+public record LoadTestConfiguration(String schedulerName,
+                                    int numJobs,
+                                    int numGroups,
+                                    int jobsPerClass,
+                                    String cronExpression,
+                                    boolean runNow,
+                                    int jitterSeconds,
+                                    int numThreads,
+                                    long workMs,
+                                    double failureRate,
+                                    int durationSeconds,
+                                    String store) {
+	private static final String PREFIX = "loadtest.";
+
+	/**
+	 * <p>Read the configuration from the {@code loadtest.*} system properties,
+	 * see {@link LoadTestMain} for the properties and their defaults.</p>
+	 *
+	 * @return the configuration
+	 */
+	public static LoadTestConfiguration fromSystemProperties() {
+		return new LoadTestConfiguration("QuartzEngineLoadTest",
+				Integer.getInteger(PREFIX + "jobs", 10_000),
+				Integer.getInteger(PREFIX + "groups", 200),
+				Integer.getInteger(PREFIX + "jobsPerClass", 10),
+				System.getProperty(PREFIX + "cron", "0/10 * * * * ?"),
+				Boolean.getBoolean(PREFIX + "runNow"),
+				Integer.getInteger(PREFIX + "jitterSeconds", 0),
+				Integer.getInteger(PREFIX + "threads", 10),
+				Long.getLong(PREFIX + "workMs", 0L),
+				Double.parseDouble(System.getProperty(PREFIX + "failureRate", "0.0")),
+				Integer.getInteger(PREFIX + "durationSeconds", 60),
+				System.getProperty(PREFIX + "store", "ram"));
+	}
+}
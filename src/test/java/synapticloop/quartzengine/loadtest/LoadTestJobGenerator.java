@@ -0,0 +1,154 @@
+package synapticloop.quartzengine.loadtest;
+
+import org.quartz.JobExecutionContext;
+import synapticloop.quartzengine.annotation.QuartzEngineJob;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * <p>Generates job classes annotated with {@code @QuartzEngineJob} at runtime.
+ * The source is written to a working directory, compiled with the system
+ * Java compiler (so the annotations go through exactly the same path as
+ * hand-written jobs) and exposed through a class loader that the
+ * {@code QuartzEngine} package scan can see.</p>
+ */
+public class LoadTestJobGenerator {
+	public static final String GENERATED_PACKAGE = "synapticloop.quartzengine.loadtest.generated";
+	private static final String CLASS_PREFIX = "LoadTestJob";
+
+	private final int numJobs;
+	private final int numGroups;
+	private final int jobsPerClass;
+	private final String cronExpression;
+	private final boolean runNow;
+
+	/**
+	 * @param numJobs the total number of annotated job methods to generate
+	 * @param numGroups the number of groups to spread the jobs across
+	 * @param jobsPerClass the number of annotated methods on each generated class
+	 * @param cronExpression the cron expression for every generated job
+	 * @param runNow whether to also add {@code @QuartzEngineJobRunNow} to every job
+	 */
+	public LoadTestJobGenerator(int numJobs, int numGroups, int jobsPerClass, String cronExpression, boolean runNow) {
+		this.numJobs = numJobs;
+		this.numGroups = Math.max(1, numGroups);
+		this.jobsPerClass = Math.max(1, jobsPerClass);
+		this.cronExpression = cronExpression;
+		this.runNow = runNow;
+	}
+
+	/**
+	 * <p>Generate and compile the job classes.</p>
+	 *
+	 * @param workingDirectory the directory to write the sources and classes to
+	 *
+	 * @return a class loader that can load (and scan) the generated package
+	 *
+	 * @throws IOException if the sources could not be written
+	 * @throws IllegalStateException if no system compiler is available, or the compilation failed
+	 */
+	public ClassLoader generate(Path workingDirectory) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (null == compiler) {
+			throw new IllegalStateException("No system Java compiler available - the load test must be run on a JDK.");
+		}
+
+		Path sourceDirectory = workingDirectory.resolve("src").resolve(GENERATED_PACKAGE.replace('.', '/'));
+		Path classesDirectory = workingDirectory.resolve("classes");
+		Files.createDirectories(sourceDirectory);
+		Files.createDirectories(classesDirectory);
+
+		List<String> arguments = new ArrayList<>();
+		arguments.add("-proc:none");
+		arguments.add("-classpath");
+		arguments.add(compileClasspath());
+		arguments.add("-d");
+		arguments.add(classesDirectory.toString());
+
+		int numClasses = (numJobs + jobsPerClass - 1) / jobsPerClass;
+		for (int classIndex = 0; classIndex < numClasses; classIndex++) {
+			String className = String.format("%s%05d", CLASS_PREFIX, classIndex);
+			Path sourceFile = sourceDirectory.resolve(className + ".java");
+			Files.writeString(sourceFile, generateSource(className, classIndex), StandardCharsets.UTF_8);
+			arguments.add(sourceFile.toString());
+		}
+
+		int result = compiler.run(null, null, null, arguments.toArray(new String[0]));
+		if (result != 0) {
+			throw new IllegalStateException("Compilation of the generated load test jobs failed with exit code " + result);
+		}
+
+		return new URLClassLoader(new URL[]{ classesDirectory.toUri().toURL() }, LoadTestJobGenerator.class.getClassLoader());
+	}
+
+	/**
+	 * <p>The class path for the generated sources.  A test runner's class path is
+	 * not always the class path of the running code (e.g. a build tool's test
+	 * worker), so the locations of the classes that the generated jobs reference
+	 * are added to it.</p>
+	 *
+	 * @return the compile class path
+	 */
+	private static String compileClasspath() {
+		StringJoiner classpath = new StringJoiner(File.pathSeparator);
+		classpath.add(System.getProperty("java.class.path"));
+		for (Class<?> clazz : new Class<?>[] { JobExecutionContext.class, QuartzEngineJob.class, LoadTestRecorder.class }) {
+			CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+			if (null == codeSource) {
+				continue;
+			}
+			try {
+				classpath.add(Path.of(codeSource.getLocation().toURI()).toString());
+			} catch (URISyntaxException e) {
+				// not a file location, rely on the java.class.path
+			}
+		}
+		return classpath.toString();
+	}
+
+	private String generateSource(String className, int classIndex) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(GENERATED_PACKAGE).append(";\n\n")
+				.append("import org.quartz.JobExecutionContext;\n")
+				.append("import synapticloop.quartzengine.annotation.QuartzEngineJob;\n")
+				.append("import synapticloop.quartzengine.annotation.QuartzEngineJobRunNow;\n")
+				.append("import synapticloop.quartzengine.loadtest.LoadTestRecorder;\n\n")
+				.append("public class ").append(className).append(" {\n");
+
+		int firstJob = classIndex * jobsPerClass;
+		int lastJob = Math.min(numJobs, firstJob + jobsPerClass);
+		for (int jobIndex = firstJob; jobIndex < lastJob; jobIndex++) {
+			if (runNow) {
+				source.append("\t@QuartzEngineJobRunNow\n");
+			}
+			source.append("\t@QuartzEngineJob(cronExpression = \"")
+					.append(escape(cronExpression))
+					.append("\", group = \"group-")
+					.append(jobIndex % numGroups)
+					.append("\")\n")
+					.append("\tpublic void job").append(jobIndex).append("(JobExecutionContext context) throws InterruptedException {\n")
+					.append("\t\tLoadTestRecorder.record(context);\n")
+					.append("\t}\n\n");
+		}
+
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+}
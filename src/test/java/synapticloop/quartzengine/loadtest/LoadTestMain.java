@@ -0,0 +1,194 @@
+package synapticloop.quartzengine.loadtest;
+
+import org.quartz.SchedulerException;
+import synapticloop.quartzengine.engine.QuartzEngine;
+import synapticloop.quartzengine.engine.QuartzEngineBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * <p>A scale/load test harness for the {@link QuartzEngine}.  This generates
+ * thousands of annotated job classes at runtime, registers them through the
+ * engine's package scan and then runs a synthetic workload, reporting:</p>
+ *
+ * <ul>
+ *   <li>registration time,</li>
+ *   <li>heap footprint of the registered jobs,</li>
+ *   <li>trigger lateness percentiles, and</li>
+ *   <li>throughput (fires/sec).</li>
+ * </ul>
+ *
+ * <p>The lateness, fires and throughput only cover the fires scheduled during
+ * the workload, the run now fires and any cron fires that fall due while the
+ * jobs are being registered are reported separately as catch up fires.</p>
+ *
+ * <p>Run it with {@code ./gradlew loadTest}, all configuration is through
+ * system properties, e.g. {@code ./gradlew loadTest -Dloadtest.jobs=10000 -Dloadtest.store=jdbc}</p>
+ *
+ * <ul>
+ *   <li>{@code loadtest.jobs} - the number of jobs to generate (default 10000)</li>
+ *   <li>{@code loadtest.groups} - the number of groups to spread them across (default 200)</li>
+ *   <li>{@code loadtest.jobsPerClass} - the number of job methods per generated class (default 10)</li>
+ *   <li>{@code loadtest.cron} - the cron expression for every job (default "0/10 * * * * ?")</li>
+ *   <li>{@code loadtest.runNow} - whether every job is also annotated with run now (default false)</li>
+ *   <li>{@code loadtest.jitterSeconds} - the engine wide jitter window in seconds (default 0)</li>
+ *   <li>{@code loadtest.threads} - the Quartz thread pool size (default 10)</li>
+ *   <li>{@code loadtest.workMs} - the milliseconds of synthetic work per fire (default 0)</li>
+ *   <li>{@code loadtest.failureRate} - the fraction of fires that fail (default 0.0)</li>
+ *   <li>{@code loadtest.durationSeconds} - how long to run the workload for (default 60)</li>
+ *   <li>{@code loadtest.store} - either "ram" for the RAMJobStore, or "jdbc" for an embedded H2 database (default ram)</li>
+ * </ul>
+ */
+public class LoadTestMain {
+	private static final String STORE_JDBC = "jdbc";
+	private static final String DATA_SOURCE = "loadTest";
+	private static final String H2_SCHEMA = "org/quartz/impl/jdbcjobstore/tables_h2.sql";
+
+	public static void main(String[] args) throws IOException, SchedulerException, SQLException, InterruptedException {
+		LoadTestConfiguration configuration = LoadTestConfiguration.fromSystemProperties();
+		System.out.printf("Load test: %d jobs, %d groups, %d jobs/class, cron '%s', runNow %b, %ds jitter, %d threads, %dms work, %.2f failure rate, %ds, %s store%n",
+				configuration.numJobs(), configuration.numGroups(), configuration.jobsPerClass(), configuration.cronExpression(),
+				configuration.runNow(), configuration.jitterSeconds(), configuration.numThreads(), configuration.workMs(),
+				configuration.failureRate(), configuration.durationSeconds(), configuration.store());
+
+		run(configuration).print(System.out);
+	}
+
+	/**
+	 * <p>Generate the jobs, register them with a new engine and run the
+	 * workload.  The engine is in standby while the jobs are registered, so no
+	 * job can fire (and allocate metrics) between the two heap samples, and only
+	 * fires scheduled after the engine is started count towards the workload
+	 * figures.</p>
+	 *
+	 * @param configuration the load test configuration
+	 *
+	 * @return the report of the run
+	 */
+	static LoadTestReport run(LoadTestConfiguration configuration) throws IOException, SchedulerException, SQLException, InterruptedException {
+		Path workingDirectory = Files.createTempDirectory("quartzengine-loadtest");
+		QuartzEngineBuilder engineBuilder = configureEngine(configuration);
+
+		long generateStart = System.nanoTime();
+		ClassLoader classLoader = new LoadTestJobGenerator(configuration.numJobs(), configuration.numGroups(),
+				configuration.jobsPerClass(), configuration.cronExpression(), configuration.runNow())
+				.generate(workingDirectory);
+		System.out.printf("Generated and compiled jobs in %dms%n", (System.nanoTime() - generateStart) / 1_000_000L);
+
+		// the package scan resolves the generated classes through the context class loader
+		ClassLoader previousClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(classLoader);
+		LoadTestRecorder.configure(configuration.workMs(), configuration.failureRate());
+
+		QuartzEngine engine = null;
+		try {
+			long startupStart = System.nanoTime();
+			engine = engineBuilder.build();
+			engine.standby();
+			long startupMs = (System.nanoTime() - startupStart) / 1_000_000L;
+
+			// baseline after the scheduler, thread pool and listeners exist, so the
+			// delta is only the registered jobs
+			long heapBefore = usedHeap();
+
+			long registrationStart = System.nanoTime();
+			engine.scanPackages(LoadTestJobGenerator.GENERATED_PACKAGE);
+			long registrationMs = (System.nanoTime() - registrationStart) / 1_000_000L;
+
+			long heapAfter = usedHeap();
+			int numRegistered = engine.listScheduledJobs().size();
+
+			LoadTestRecorder.reset(System.currentTimeMillis());
+			long workloadStart = System.nanoTime();
+			engine.start();
+			Thread.sleep(configuration.durationSeconds() * 1000L);
+			long workloadNanos = System.nanoTime() - workloadStart;
+
+			long fires = LoadTestRecorder.getFires();
+			long[] latenessPercentiles = new long[LoadTestReport.PERCENTILES.length];
+			for (int i = 0; i < latenessPercentiles.length; i++) {
+				latenessPercentiles[i] = LoadTestRecorder.getLatenessPercentile(LoadTestReport.PERCENTILES[i]);
+			}
+
+			return new LoadTestReport(startupMs,
+					registrationMs,
+					numRegistered,
+					heapAfter - heapBefore,
+					fires,
+					LoadTestRecorder.getFailures(),
+					LoadTestRecorder.getCatchUpFires(),
+					(fires * 1_000_000_000.0d) / workloadNanos,
+					latenessPercentiles);
+		} finally {
+			if (null != engine) {
+				engine.shutdown();
+			}
+			Thread.currentThread().setContextClassLoader(previousClassLoader);
+		}
+	}
+
+	private static QuartzEngineBuilder configureEngine(LoadTestConfiguration configuration) throws IOException, SQLException {
+		QuartzEngineBuilder engineBuilder = QuartzEngineBuilder.newEngine(configuration.schedulerName())
+				.withThreadCount(configuration.numThreads())
+				.withDefaultJitterSeconds(configuration.jitterSeconds())
+				.withProperty("org.quartz.jobStore.misfireThreshold", "60000");
+
+		if (STORE_JDBC.equalsIgnoreCase(configuration.store())) {
+			// a database per scheduler, so that runs in the same JVM start from an empty schema
+			String h2Url = "jdbc:h2:mem:" + configuration.schedulerName() + ";DB_CLOSE_DELAY=-1";
+			createH2Schema(h2Url);
+			engineBuilder.withJobStoreClass("org.quartz.impl.jdbcjobstore.JobStoreTX")
+					.withProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate")
+					.withProperty("org.quartz.jobStore.tablePrefix", "QRTZ_")
+					.withProperty("org.quartz.jobStore.dataSource", DATA_SOURCE)
+					.withProperty("org.quartz.dataSource." + DATA_SOURCE + ".connectionProvider.class", H2ConnectionProvider.class.getName())
+					.withProperty("org.quartz.dataSource." + DATA_SOURCE + ".url", h2Url)
+					.withProperty("org.quartz.dataSource." + DATA_SOURCE + ".maxConnections", Integer.toString(configuration.numThreads() + 2));
+		}
+
+		return engineBuilder;
+	}
+
+	private static void createH2Schema(String h2Url) throws IOException, SQLException {
+		String schema;
+		try (InputStream inputStream = LoadTestMain.class.getClassLoader().getResourceAsStream(H2_SCHEMA)) {
+			if (null == inputStream) {
+				throw new IllegalStateException("Could not find the Quartz H2 schema '" + H2_SCHEMA + "' on the classpath.");
+			}
+			schema = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		StringBuilder withoutComments = new StringBuilder();
+		for (String line : schema.split("\n")) {
+			if (!line.trim().startsWith("--")) {
+				withoutComments.append(line).append("\n");
+			}
+		}
+
+		try (Connection connection = DriverManager.getConnection(h2Url, "sa", "");
+		     Statement statement = connection.createStatement()) {
+			for (String sql : withoutComments.toString().split(";")) {
+				if (!sql.isBlank()) {
+					statement.execute(sql);
+				}
+			}
+		}
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(100L);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
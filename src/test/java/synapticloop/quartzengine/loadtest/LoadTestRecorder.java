@@ -0,0 +1,145 @@
+package synapticloop.quartzengine.loadtest;
+
+import org.quartz.JobExecutionContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Collects the fire statistics for the generated load test jobs.  Every
+ * generated job method calls {@link #record(JobExecutionContext)}, which
+ * records how late the fire was against its scheduled time and then performs
+ * the configured synthetic workload.</p>
+ *
+ * <p>Only fires that were scheduled at or after the workload start (see
+ * {@link #reset(long)}) are counted towards the fires, failures and lateness.
+ * Fires scheduled before then - the run now triggers and any cron fire times
+ * that passed while the jobs were being registered - are counted separately as
+ * catch up fires, as their lateness includes the registration time.</p>
+ *
+ * <p>Lateness is bucketed into a fixed millisecond histogram so that recording
+ * is lock free and percentiles can be read without keeping every sample.</p>
+ */
+public class LoadTestRecorder {
+	// anything later than this is recorded in the final (overflow) bucket
+	public static final int MAX_LATENESS_MS = 60_000;
+
+	private static final AtomicLongArray latenessHistogram = new AtomicLongArray(MAX_LATENESS_MS + 1);
+	private static final LongAdder fires = new LongAdder();
+	private static final LongAdder failures = new LongAdder();
+	private static final LongAdder catchUpFires = new LongAdder();
+
+	private static volatile long workMs = 0L;
+	private static volatile double failureRate = 0.0d;
+	private static volatile long workloadStartMillis = 0L;
+
+	private LoadTestRecorder() {}
+
+	/**
+	 * <p>Set the synthetic workload that every job fire performs.</p>
+	 *
+	 * @param workMs the number of milliseconds each fire sleeps for
+	 * @param failureRate the fraction (0.0 - 1.0) of fires that throw an exception
+	 */
+	public static void configure(long workMs, double failureRate) {
+		LoadTestRecorder.workMs = workMs;
+		LoadTestRecorder.failureRate = failureRate;
+	}
+
+	/**
+	 * <p>Record a single job fire and then run the synthetic workload.</p>
+	 *
+	 * @param context the execution context of the fire
+	 *
+	 * @throws InterruptedException if the synthetic work was interrupted
+	 */
+	public static void record(JobExecutionContext context) throws InterruptedException {
+		long now = System.currentTimeMillis();
+		boolean isWorkloadFire = true;
+		if (null != context.getScheduledFireTime()) {
+			long scheduledMillis = context.getScheduledFireTime().getTime();
+			isWorkloadFire = scheduledMillis >= workloadStartMillis;
+			if (isWorkloadFire) {
+				recordLateness(now - scheduledMillis);
+			}
+		}
+
+		if (isWorkloadFire) {
+			fires.increment();
+		} else {
+			catchUpFires.increment();
+		}
+
+		if (workMs > 0) {
+			Thread.sleep(workMs);
+		}
+
+		if (failureRate > 0.0d && ThreadLocalRandom.current().nextDouble() < failureRate) {
+			if (isWorkloadFire) {
+				failures.increment();
+			}
+			throw new IllegalStateException("Synthetic load test failure");
+		}
+	}
+
+	static void recordLateness(long latenessMs) {
+		latenessHistogram.incrementAndGet((int) Math.min(Math.max(0L, latenessMs), MAX_LATENESS_MS));
+	}
+
+	/**
+	 * <p>Clear all recorded statistics and start a new workload.</p>
+	 *
+	 * @param workloadStartMillis the time (epoch millis) the workload starts,
+	 * 		fires scheduled before this are counted as catch up fires
+	 */
+	public static void reset(long workloadStartMillis) {
+		for (int i = 0; i < latenessHistogram.length(); i++) {
+			latenessHistogram.set(i, 0L);
+		}
+		fires.reset();
+		failures.reset();
+		catchUpFires.reset();
+		LoadTestRecorder.workloadStartMillis = workloadStartMillis;
+	}
+
+	public static long getFires() {
+		return fires.sum();
+	}
+
+	public static long getFailures() {
+		return failures.sum();
+	}
+
+	public static long getCatchUpFires() {
+		return catchUpFires.sum();
+	}
+
+	/**
+	 * <p>Get the lateness percentile in milliseconds.</p>
+	 *
+	 * @param percentile the percentile to retrieve (0.0 - 100.0)
+	 *
+	 * @return the lateness in milliseconds, or -1 if nothing has been recorded
+	 */
+	public static long getLatenessPercentile(double percentile) {
+		long total = 0L;
+		for (int i = 0; i < latenessHistogram.length(); i++) {
+			total += latenessHistogram.get(i);
+		}
+
+		if (total == 0L) {
+			return -1L;
+		}
+
+		long target = Math.max(1L, (long) Math.ceil(total * percentile / 100.0d));
+		long cumulative = 0L;
+		for (int i = 0; i < latenessHistogram.length(); i++) {
+			cumulative += latenessHistogram.get(i);
+			if (cumulative >= target) {
+				return i;
+			}
+		}
+		return MAX_LATENESS_MS;
+	}
+}
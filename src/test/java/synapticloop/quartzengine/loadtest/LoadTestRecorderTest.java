@@ -0,0 +1,59 @@
+package synapticloop.quartzengine.loadtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadTestRecorderTest {
+
+	@BeforeEach
+	public void setUp() {
+		LoadTestRecorder.reset(0L);
+	}
+
+	@Test
+	public void testNothingRecorded() {
+		assertEquals(-1L, LoadTestRecorder.getLatenessPercentile(50.0d));
+		assertEquals(-1L, LoadTestRecorder.getLatenessPercentile(100.0d));
+	}
+
+	@Test
+	public void testPercentiles() {
+		// lateness of 1ms to 100ms, one sample each
+		for (int i = 100; i >= 1; i--) {
+			LoadTestRecorder.recordLateness(i);
+		}
+
+		assertEquals(1L, LoadTestRecorder.getLatenessPercentile(0.0d));
+		assertEquals(1L, LoadTestRecorder.getLatenessPercentile(1.0d));
+		assertEquals(50L, LoadTestRecorder.getLatenessPercentile(50.0d));
+		assertEquals(90L, LoadTestRecorder.getLatenessPercentile(90.0d));
+		assertEquals(99L, LoadTestRecorder.getLatenessPercentile(99.0d));
+		// the target is rounded up to the next whole sample
+		assertEquals(100L, LoadTestRecorder.getLatenessPercentile(99.5d));
+		assertEquals(100L, LoadTestRecorder.getLatenessPercentile(100.0d));
+	}
+
+	@Test
+	public void testSkewedDistribution() {
+		for (int i = 0; i < 999; i++) {
+			LoadTestRecorder.recordLateness(2L);
+		}
+		LoadTestRecorder.recordLateness(5_000L);
+
+		assertEquals(2L, LoadTestRecorder.getLatenessPercentile(50.0d));
+		assertEquals(2L, LoadTestRecorder.getLatenessPercentile(99.0d));
+		assertEquals(5_000L, LoadTestRecorder.getLatenessPercentile(100.0d));
+	}
+
+	@Test
+	public void testOutOfRangeLatenessIsClamped() {
+		// early fires are on time, anything past the histogram is in the overflow bucket
+		LoadTestRecorder.recordLateness(-10L);
+		LoadTestRecorder.recordLateness(LoadTestRecorder.MAX_LATENESS_MS * 2L);
+
+		assertEquals(0L, LoadTestRecorder.getLatenessPercentile(50.0d));
+		assertEquals(LoadTestRecorder.MAX_LATENESS_MS, LoadTestRecorder.getLatenessPercentile(100.0d));
+	}
+}
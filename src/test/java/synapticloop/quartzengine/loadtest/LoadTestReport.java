@@ -0,0 +1,54 @@
+package synapticloop.quartzengine.loadtest;
+
+import java.io.PrintStream;
+
+/**
+ * <p>The results of a single load test run.  The fires, failures, throughput
+ * and lateness only cover the workload, the catch up fires are the fires that
+ * were scheduled while the jobs were being registered (see
+ * {@link LoadTestRecorder}).</p>
+ *
+ * @param startupMs the time taken to create and start the engine
+ * @param registrationMs the time taken to scan and register the generated jobs
+ * @param numRegistered the number of registered jobs
+ * @param heapDeltaBytes the heap used by the registered jobs
+ * @param fires the number of workload fires
+ * @param failures the number of workload fires that failed
+ * @param catchUpFires the number of fires that were scheduled during registration
+ * @param throughput the workload fires per second
+ * @param latenessPercentiles the lateness in milliseconds at each of {@link #PERCENTILES}, -1 if nothing fired
+ */
+public record LoadTestReport(long startupMs,
+                             long registrationMs,
+                             int numRegistered,
+                             long heapDeltaBytes,
+                             long fires,
+                             long failures,
+                             long catchUpFires,
+                             double throughput,
+                             long[] latenessPercentiles) {
+	public static final double[] PERCENTILES = { 50.0d, 90.0d, 99.0d, 99.9d, 100.0d };
+
+	public void print(PrintStream out) {
+		out.println();
+		out.println("===============================================");
+		out.println("        QUARTZ ENGINE LOAD TEST REPORT         ");
+		out.println("===============================================");
+		out.printf("Engine startup:       %dms%n", startupMs);
+		out.printf("Registration:         %dms (%d jobs registered, %.3fms/job)%n",
+				registrationMs, numRegistered, numRegistered == 0 ? 0.0d : registrationMs / (double) numRegistered);
+		out.printf("Heap footprint:       %.2fMB (%d bytes/job)%n",
+				heapDeltaBytes / (1024.0d * 1024.0d), numRegistered == 0 ? 0 : heapDeltaBytes / numRegistered);
+		out.printf("Catch up fires:       %d (scheduled during registration, not included below)%n", catchUpFires);
+		out.printf("Fires:                %d (%d failed)%n", fires, failures);
+		out.printf("Throughput:           %.2f fires/sec%n", throughput);
+		out.println("-----------------------------------------------");
+		for (int i = 0; i < PERCENTILES.length; i++) {
+			long lateness = latenessPercentiles[i];
+			out.printf("Lateness p%-6s      %s%n",
+					PERCENTILES[i] == 100.0d ? "max" : String.valueOf(PERCENTILES[i]),
+					lateness < 0 ? "n/a" : (lateness >= LoadTestRecorder.MAX_LATENESS_MS ? ">=" : "") + lateness + "ms");
+		}
+		out.println("===============================================");
+	}
+}
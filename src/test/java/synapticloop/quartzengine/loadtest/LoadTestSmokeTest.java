@@ -0,0 +1,50 @@
+package synapticloop.quartzengine.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Runs a small load test against each job store, so that the job
+ * generator, the H2 schema and connection provider and the report figures are
+ * exercised by the build rather than only by {@code ./gradlew loadTest}.</p>
+ */
+public class LoadTestSmokeTest {
+	private static final int NUM_JOBS = 20;
+
+	private static LoadTestReport runSmokeTest(String store) throws Exception {
+		return LoadTestMain.run(new LoadTestConfiguration("LoadTestSmokeTest-" + store,
+				NUM_JOBS, 4, 5,
+				"* * * * * ?", true,
+				0, 4,
+				0L, 0.0d,
+				3, store));
+	}
+
+	private static void assertReport(LoadTestReport report) {
+		assertEquals(NUM_JOBS, report.numRegistered());
+
+		// nothing can fire while the engine is in standby, so every run now fire
+		// was scheduled during registration
+		assertTrue(report.catchUpFires() >= NUM_JOBS, "Only " + report.catchUpFires() + " catch up fires");
+
+		// every job fires each second for the 3 second workload
+		assertTrue(report.fires() >= NUM_JOBS, "Only " + report.fires() + " workload fires");
+		assertEquals(0L, report.failures());
+		assertTrue(report.throughput() > 0.0d);
+
+		for (long lateness : report.latenessPercentiles()) {
+			assertTrue(lateness >= 0L, "No lateness recorded");
+		}
+	}
+
+	@Test
+	public void testRamJobStore() throws Exception {
+		assertReport(runSmokeTest("ram"));
+	}
+
+	@Test
+	public void testJdbcJobStore() throws Exception {
+		assertReport(runSmokeTest("jdbc"));
+	}
+}
@@ -0,0 +1,75 @@
+package synapticloop.quartzengine.metric;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobMetricStatisticsTest {
+
+	private static JobMetric metric(String name, String group, long durationMs, boolean successful) {
+		return new JobMetric(name, group, Instant.now(), durationMs, successful, successful ? null : "failed");
+	}
+
+	@Test
+	public void testHistoryKeepsTheLatestMetrics() {
+		JobMetricStatistics statistics = new JobMetricStatistics();
+		for (int i = 0; i < 150; i++) {
+			// every third run fails
+			statistics.addMetric(metric("Job.run", "undefined", i, i % 3 != 0));
+		}
+
+		// full history keeps recording, dropping the oldest
+		List<JobMetric> metrics = statistics.getAllMetrics();
+		assertEquals(100, statistics.getTotalRuns());
+		assertEquals(50L, metrics.get(0).durationMs());
+		assertEquals(149L, metrics.get(99).durationMs());
+
+		// runs 50 - 149 contain 33 failures (51, 54, ... 147)
+		assertEquals(67L, statistics.getSuccessCount());
+		assertEquals(33L, statistics.getFailureCount());
+		assertEquals(67.0, statistics.getSuccessPercentage(), 0.0001);
+		assertEquals(33.0, statistics.getFailurePercentage(), 0.0001);
+
+		// whilst the rolling windows count every run
+		assertEquals(150L, statistics.getWindowStatistics(RollingWindow.ONE_MINUTE).runs());
+		assertEquals(50L, statistics.getFailureCount(RollingWindow.ONE_MINUTE));
+	}
+
+	@Test
+	public void testJobWindowsAreKeyedOnGroupAndName() {
+		JobMetricStatistics statistics = new JobMetricStatistics();
+		statistics.addMetric(metric("Job.run", "groupA", 10L, false));
+		statistics.addMetric(metric("Job.run", "groupB", 30L, true));
+
+		RollingWindowStatistics groupA = statistics.getWindowStatistics(new JobKey("Job.run", "groupA"), RollingWindow.FIVE_MINUTES);
+		assertEquals(1L, groupA.runs());
+		assertEquals(1L, groupA.failures());
+		assertEquals(10.0, groupA.meanDurationMs(), 0.0001);
+
+		RollingWindowStatistics groupB = statistics.getWindowStatistics(new JobKey("Job.run", "groupB"), RollingWindow.FIVE_MINUTES);
+		assertEquals(1L, groupB.runs());
+		assertEquals(0L, groupB.failures());
+
+		assertEquals(0L, statistics.getWindowStatistics(new JobKey("Job.other", "groupA"), RollingWindow.FIVE_MINUTES).runs());
+
+		assertEquals(2L, statistics.getWindowStatistics(RollingWindow.FIVE_MINUTES).runs());
+		assertEquals(50.0, statistics.getFailurePercentage(RollingWindow.FIVE_MINUTES), 0.0001);
+		assertEquals(20.0, statistics.getMeanDurationMs(RollingWindow.FIVE_MINUTES), 0.0001);
+	}
+
+	@Test
+	public void testClear() {
+		JobMetricStatistics statistics = new JobMetricStatistics();
+		statistics.addMetric(metric("Job.run", "undefined", 10L, false));
+		statistics.clear();
+
+		assertEquals(0, statistics.getTotalRuns());
+		assertEquals(0L, statistics.getFailureCount());
+		assertEquals(0L, statistics.getWindowStatistics(RollingWindow.ONE_MINUTE).runs());
+		assertEquals(0L, statistics.getWindowStatistics(new JobKey("Job.run", "undefined"), RollingWindow.ONE_MINUTE).runs());
+	}
+}
@@ -0,0 +1,41 @@
+package synapticloop.quartzengine.metric;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RollingJobMetricsTest {
+	private static final long NOW = 1_000_000_000_000L;
+
+	@Test
+	public void testEveryWindowIsRecordedAtTheFinishTime() {
+		RollingJobMetrics rollingJobMetrics = new RollingJobMetrics(NOW);
+		// started before the one minute window, but finished within it
+		rollingJobMetrics.record(new JobMetric("Job.run", "undefined", Instant.ofEpochMilli(NOW - 90_000L), 90_000L, false, "failed"));
+
+		for (RollingWindow window : RollingWindow.values()) {
+			RollingWindowStatistics statistics = rollingJobMetrics.getStatistics(window, NOW);
+			assertEquals(1L, statistics.runs(), window.name());
+			assertEquals(1L, statistics.failures(), window.name());
+			assertEquals(90_000L, statistics.totalDurationMs(), window.name());
+		}
+	}
+
+	@Test
+	public void testWindowsExpireIndependently() {
+		RollingJobMetrics rollingJobMetrics = new RollingJobMetrics(NOW);
+		rollingJobMetrics.record(new JobMetric("Job.run", "undefined", Instant.ofEpochMilli(NOW), 0L, true, null));
+
+		long twoMinutesLater = NOW + 120_000L;
+		assertEquals(0L, rollingJobMetrics.getStatistics(RollingWindow.ONE_MINUTE, twoMinutesLater).runs());
+		assertEquals(1L, rollingJobMetrics.getStatistics(RollingWindow.FIVE_MINUTES, twoMinutesLater).runs());
+		assertEquals(1L, rollingJobMetrics.getStatistics(RollingWindow.ONE_HOUR, twoMinutesLater).runs());
+		assertEquals(1L, rollingJobMetrics.getStatistics(RollingWindow.TWENTY_FOUR_HOURS, twoMinutesLater).runs());
+
+		long twoHoursLater = NOW + 7_200_000L;
+		assertEquals(0L, rollingJobMetrics.getStatistics(RollingWindow.ONE_HOUR, twoHoursLater).runs());
+		assertEquals(1L, rollingJobMetrics.getStatistics(RollingWindow.TWENTY_FOUR_HOURS, twoHoursLater).runs());
+	}
+}
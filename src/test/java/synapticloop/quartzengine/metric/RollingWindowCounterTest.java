@@ -0,0 +1,101 @@
+package synapticloop.quartzengine.metric;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RollingWindowCounterTest {
+	// aligned to the start of a bucket - the one minute window has 30 buckets of 2 seconds
+	private static final long NOW = 1_000_000_000_000L;
+
+	@Test
+	public void testTotals() {
+		RollingWindowCounter counter = new RollingWindowCounter(RollingWindow.ONE_MINUTE, NOW);
+		counter.record(NOW, 10L, true);
+		counter.record(NOW + 500L, 20L, false);
+		counter.record(NOW + 2_500L, 30L, true);
+
+		RollingWindowStatistics statistics = counter.getStatistics(NOW + 3_000L);
+		assertEquals(RollingWindow.ONE_MINUTE, statistics.window());
+		assertEquals(3L, statistics.runs());
+		assertEquals(1L, statistics.failures());
+		assertEquals(2L, statistics.successes());
+		assertEquals(60L, statistics.totalDurationMs());
+		assertEquals(20.0, statistics.meanDurationMs(), 0.0001);
+		assertEquals(200.0 / 3.0, statistics.successPercentage(), 0.0001);
+		assertEquals(100.0 / 3.0, statistics.failurePercentage(), 0.0001);
+		assertEquals(3.0 / 60.0, statistics.runsPerSecond(), 0.0001);
+	}
+
+	@Test
+	public void testBucketsExpireAsTheWindowRotates() {
+		RollingWindowCounter counter = new RollingWindowCounter(RollingWindow.ONE_MINUTE, NOW);
+		counter.record(NOW, 10L, false);
+		counter.record(NOW + 30_000L, 20L, true);
+
+		assertEquals(2L, counter.getStatistics(NOW + 30_000L).runs());
+		// the last instant that the first bucket is still in the window
+		assertEquals(2L, counter.getStatistics(NOW + 59_999L).runs());
+
+		// the first bucket has rotated out, taking its failure and duration with it
+		RollingWindowStatistics statistics = counter.getStatistics(NOW + 60_000L);
+		assertEquals(1L, statistics.runs());
+		assertEquals(0L, statistics.failures());
+		assertEquals(20L, statistics.totalDurationMs());
+
+		assertEquals(0L, counter.getStatistics(NOW + 90_000L).runs());
+	}
+
+	@Test
+	public void testGapLongerThanTheWindowClearsEverything() {
+		RollingWindowCounter counter = new RollingWindowCounter(RollingWindow.ONE_MINUTE, NOW);
+		for (int i = 0; i < 30; i++) {
+			counter.record(NOW + i * 2_000L, 5L, i % 2 == 0);
+		}
+		assertEquals(30L, counter.getStatistics(NOW + 58_000L).runs());
+
+		counter.record(NOW + 600_000L, 7L, false);
+		RollingWindowStatistics statistics = counter.getStatistics(NOW + 600_000L);
+		assertEquals(1L, statistics.runs());
+		assertEquals(1L, statistics.failures());
+		assertEquals(7L, statistics.totalDurationMs());
+	}
+
+	@Test
+	public void testLateRecordsOutsideTheWindowAreDropped() {
+		RollingWindowCounter counter = new RollingWindowCounter(RollingWindow.ONE_MINUTE, NOW);
+		counter.getStatistics(NOW + 60_000L);
+
+		// finished before the window started
+		counter.record(NOW, 10L, false);
+		assertEquals(0L, counter.getStatistics(NOW + 60_000L).runs());
+
+		// finished late, but still within the window
+		counter.record(NOW + 2_000L, 10L, false);
+		RollingWindowStatistics statistics = counter.getStatistics(NOW + 60_000L);
+		assertEquals(1L, statistics.runs());
+		assertEquals(1L, statistics.failures());
+	}
+
+	@Test
+	public void testEmptyWindow() {
+		RollingWindowStatistics statistics = new RollingWindowCounter(RollingWindow.FIVE_MINUTES, NOW).getStatistics(NOW);
+		assertEquals(0L, statistics.runs());
+		assertEquals(0.0, statistics.successPercentage(), 0.0);
+		assertEquals(0.0, statistics.failurePercentage(), 0.0);
+		assertEquals(0.0, statistics.meanDurationMs(), 0.0);
+		assertEquals(0.0, statistics.runsPerSecond(), 0.0);
+	}
+
+	@Test
+	public void testClear() {
+		RollingWindowCounter counter = new RollingWindowCounter(RollingWindow.ONE_MINUTE, NOW);
+		counter.record(NOW, 10L, false);
+		counter.clear();
+
+		RollingWindowStatistics statistics = counter.getStatistics(NOW);
+		assertEquals(0L, statistics.runs());
+		assertEquals(0L, statistics.failures());
+		assertEquals(0L, statistics.totalDurationMs());
+	}
+}
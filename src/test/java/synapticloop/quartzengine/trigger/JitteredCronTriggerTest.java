@@ -0,0 +1,115 @@
+package synapticloop.quartzengine.trigger;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.impl.triggers.CronTriggerImpl;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JitteredCronTriggerTest {
+	private static final String EVERY_MINUTE = "0 * * * * ?";
+	private static final long OFFSET_MILLIS = 12_500L;
+
+	private static Date at(String time) {
+		return Date.from(Instant.parse("2026-01-01T" + time + "Z"));
+	}
+
+	private static JitteredCronTrigger newTrigger(long offsetMillis, Date startTime) throws ParseException {
+		JitteredCronTrigger trigger = new JitteredCronTrigger();
+		trigger.setCronExpression(EVERY_MINUTE);
+		trigger.setTimeZone(TimeZone.getTimeZone("UTC"));
+		trigger.setStartTime(startTime);
+		trigger.setOffsetMillis(offsetMillis);
+		return trigger;
+	}
+
+	@Test
+	public void testFireTimesAreShiftedByOffset() throws ParseException {
+		JitteredCronTrigger trigger = newTrigger(OFFSET_MILLIS, at("00:00:00.000"));
+
+		assertEquals(at("12:00:12.500"), trigger.getFireTimeAfter(at("12:00:00.000")));
+		assertEquals(at("12:00:12.500"), trigger.getFireTimeAfter(at("11:59:30.000")));
+		assertEquals(at("12:01:12.500"), trigger.getFireTimeAfter(at("12:00:12.500")));
+		assertEquals(at("12:01:12.500"), trigger.getFireTimeAfter(at("12:00:20.000")));
+	}
+
+	@Test
+	public void testNoOffsetMatchesCronTrigger() throws ParseException {
+		JitteredCronTrigger trigger = newTrigger(0L, at("00:00:00.000"));
+		CronTriggerImpl cronTrigger = new CronTriggerImpl();
+		cronTrigger.setCronExpression(EVERY_MINUTE);
+		cronTrigger.setTimeZone(TimeZone.getTimeZone("UTC"));
+		cronTrigger.setStartTime(at("00:00:00.000"));
+
+		Date afterTime = at("12:00:00.000");
+		for (int i = 0; i < 10; i++) {
+			Date fireTime = trigger.getFireTimeAfter(afterTime);
+			assertEquals(cronTrigger.getFireTimeAfter(afterTime), fireTime);
+			afterTime = fireTime;
+		}
+	}
+
+	@Test
+	public void testFirstFireIsNotBeforeStartTime() throws ParseException {
+		// the offset slot in the start time's minute is still to come
+		assertEquals(at("12:30:12.500"), newTrigger(OFFSET_MILLIS, at("12:30:05.000")).getFireTimeAfter(at("12:00:00.000")));
+
+		// the offset slot in the start time's minute has passed
+		assertEquals(at("12:31:12.500"), newTrigger(OFFSET_MILLIS, at("12:30:20.000")).getFireTimeAfter(at("12:00:00.000")));
+	}
+
+	@Test
+	public void testNoFireAfterEndTime() throws ParseException {
+		JitteredCronTrigger trigger = newTrigger(OFFSET_MILLIS, at("00:00:00.000"));
+		trigger.setEndTime(at("12:05:00.000"));
+
+		assertEquals(at("12:04:12.500"), trigger.getFireTimeAfter(at("12:04:00.000")));
+		// the cron time is before the end time, but the shifted time is not
+		assertNull(trigger.getFireTimeAfter(at("12:04:12.500")));
+		assertNull(trigger.getFireTimeAfter(at("12:06:00.000")));
+	}
+
+	private static Calendar calendarAt(Date date) {
+		Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		calendar.setTime(date);
+		return calendar;
+	}
+
+	@Test
+	public void testWillFireOnShiftedTime() throws ParseException {
+		JitteredCronTrigger trigger = newTrigger(OFFSET_MILLIS, at("00:00:00.000"));
+
+		assertTrue(trigger.willFireOn(calendarAt(at("12:00:12.500"))));
+		// the milliseconds of the calendar are ignored, as for a cron trigger
+		assertTrue(trigger.willFireOn(calendarAt(at("12:00:12.000"))));
+		assertTrue(trigger.willFireOn(calendarAt(at("12:00:12.999"))));
+
+		// the unshifted cron time is not a fire time
+		assertFalse(trigger.willFireOn(calendarAt(at("12:00:00.000"))));
+		assertFalse(trigger.willFireOn(calendarAt(at("12:00:11.000"))));
+		assertFalse(trigger.willFireOn(calendarAt(at("12:00:13.000"))));
+	}
+
+	@Test
+	public void testWillFireOnShiftedDay() throws ParseException {
+		// 23:00 on the 1st of January, shifted by two hours into the 2nd
+		JitteredCronTrigger trigger = new JitteredCronTrigger();
+		trigger.setCronExpression("0 0 23 1 1 ?");
+		trigger.setTimeZone(TimeZone.getTimeZone("UTC"));
+		trigger.setStartTime(at("00:00:00.000"));
+		trigger.setOffsetMillis(2 * 60 * 60 * 1000L);
+
+		assertFalse(trigger.willFireOn(calendarAt(at("10:00:00.000")), true));
+		assertTrue(trigger.willFireOn(calendarAt(Date.from(Instant.parse("2026-01-02T10:00:00Z"))), true));
+	}
+
+	@Test
+	public void testNoFinalFireTimeWithoutEndTime() throws ParseException {
+		assertNull(newTrigger(OFFSET_MILLIS, at("00:00:00.000")).getFinalFireTime());
+	}
+}
@@ -0,0 +1,48 @@
+package synapticloop.quartzengine.trigger;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobKeyJitterTest {
+
+	@Test
+	public void testOffsetIsStable() {
+		JobKey jobKey = new JobKey("Job.track", "undefined");
+		assertEquals(JobKeyJitter.offsetMillis(jobKey, 60), JobKeyJitter.offsetMillis(new JobKey("Job.track", "undefined"), 60));
+
+		// pinned values - the offset must not change across JVMs or releases
+		assertEquals(40823L, JobKeyJitter.offsetMillis(jobKey, 60));
+		assertEquals(236071L, JobKeyJitter.offsetMillis(new JobKey("a", "b"), 300));
+	}
+
+	@Test
+	public void testOffsetIsWithinWindow() {
+		for (int jitterSeconds : new int[] { 1, 7, 60, 300, 3600 }) {
+			for (int i = 0; i < 10_000; i++) {
+				long offset = JobKeyJitter.offsetMillis(new JobKey("LoadTestJob.job" + i, "group-" + (i % 200)), jitterSeconds);
+				assertTrue(offset >= 0L && offset < jitterSeconds * 1000L, "Offset " + offset + " outside of " + jitterSeconds + "s window");
+			}
+		}
+	}
+
+	@Test
+	public void testNoWindowHasNoOffset() {
+		assertEquals(0L, JobKeyJitter.offsetMillis(new JobKey("Job.track", "undefined"), 0));
+		assertEquals(0L, JobKeyJitter.offsetMillis(new JobKey("Job.track", "undefined"), -1));
+	}
+
+	@Test
+	public void testSequentialNamesAreSpread() {
+		// 600 sequentially named jobs in a 60 second window should cover most of the seconds
+		Set<Long> seconds = new HashSet<>();
+		for (int i = 0; i < 600; i++) {
+			seconds.add(JobKeyJitter.offsetMillis(new JobKey("Job.job" + i, "undefined"), 60) / 1000L);
+		}
+		assertTrue(seconds.size() > 50, "Only " + seconds.size() + " distinct seconds used");
+	}
+}